@@ -0,0 +1,194 @@
+package com.sid.app.auth;
+
+import com.sid.app.config.OtpProperties;
+import com.sid.app.model.enums.OtpPurpose;
+import com.sid.app.model.enums.OtpVerification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Node-local {@link OtpStore}, bounded in size and split into independently locked shards.
+ * <p>
+ * Each shard is a {@link LinkedHashMap} in the order keys were last issued an OTP, so when a shard is full the
+ * entry issued longest ago is evicted and memory stays flat however many OTPs are requested. An entry outlives
+ * its OTP while it still carries wrong guesses, so the lockout survives both expiry and re-issue; the periodic
+ * purge drops entries once neither is left.
+ *
+ * @author Siddhant Patni
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.otp.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpStore implements OtpStore {
+
+    private final Shard[] shards;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public InMemoryOtpStore(OtpProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    InMemoryOtpStore(OtpProperties properties, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        int shardCount = Math.max(1, properties.getShards());
+        int shardCapacity = Math.max(1, properties.getMaxEntries() / shardCount);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(shardCapacity);
+        }
+    }
+
+    @Override
+    public boolean save(OtpPurpose purpose, String email, byte[] otpHash, Duration ttl, Duration resendCooldown) {
+        String key = key(purpose, email);
+        return shardOf(key).save(key, otpHash, nanoClock.getAsLong(), ttl.toNanos(), resendCooldown.toNanos());
+    }
+
+    @Override
+    public OtpVerification verify(OtpPurpose purpose, String email, byte[] otpHash, int maxAttempts, Duration lockout) {
+        String key = key(purpose, email);
+        return shardOf(key).verify(key, otpHash, nanoClock.getAsLong(), maxAttempts, lockout.toNanos());
+    }
+
+    @Override
+    public void withdraw(OtpPurpose purpose, String email, byte[] otpHash) {
+        String key = key(purpose, email);
+        shardOf(key).withdraw(key, otpHash, nanoClock.getAsLong());
+    }
+
+    @Override
+    public void purgeExpired() {
+        long now = nanoClock.getAsLong();
+        for (Shard shard : shards) {
+            shard.purge(now);
+        }
+    }
+
+    private Shard shardOf(String key) {
+        return shards[Math.floorMod(key.hashCode(), shards.length)];
+    }
+
+    private static String key(OtpPurpose purpose, String email) {
+        return purpose.name() + ':' + email;
+    }
+
+    private static final class Shard {
+
+        private final int capacity;
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+        Shard(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized boolean save(String key, byte[] otpHash, long now, long ttl, long resendCooldown) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.otpHash != null && now - entry.issuedAt < resendCooldown) {
+                return false;
+            }
+            if (entry == null) {
+                if (entries.size() >= capacity) {
+                    purge(now);
+                }
+                if (entries.size() >= capacity) {
+                    Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    log.warn("OTP store shard full, evicted the oldest OTP");
+                }
+                entry = new Entry();
+            } else {
+                // Removing and re-inserting moves the key to the tail, keeping the map in issue order
+                entries.remove(key);
+                entry.expireFailures(now);
+            }
+            // The failure count is carried over, so a new OTP does not bring new guesses
+            entry.otpHash = otpHash;
+            entry.issuedAt = now;
+            entry.expiresAt = now + ttl;
+            entries.put(key, entry);
+            return true;
+        }
+
+        synchronized OtpVerification verify(String key, byte[] otpHash, long now, int maxAttempts, long lockout) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return OtpVerification.INVALID;
+            }
+            entry.expireFailures(now);
+            if (entry.failures >= maxAttempts) {
+                return OtpVerification.TOO_MANY_ATTEMPTS;
+            }
+            if (entry.expiresAt - now <= 0) {
+                if (entry.failures == 0) {
+                    entries.remove(key);
+                }
+                return OtpVerification.EXPIRED;
+            }
+            if (MessageDigest.isEqual(entry.otpHash, otpHash)) {
+                entries.remove(key);
+                return OtpVerification.VERIFIED;
+            }
+            entry.failures++;
+            entry.failuresExpireAt = now + lockout;
+            return entry.failures >= maxAttempts ? OtpVerification.TOO_MANY_ATTEMPTS : OtpVerification.INVALID;
+        }
+
+        synchronized void withdraw(String key, byte[] otpHash, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null || entry.otpHash == null || !MessageDigest.isEqual(entry.otpHash, otpHash)) {
+                return;
+            }
+            entry.expireFailures(now);
+            if (entry.failures == 0) {
+                entries.remove(key);
+                return;
+            }
+            // Kept for its wrong guesses only; a null hash lifts the cooldown
+            entry.otpHash = null;
+            entry.expiresAt = now;
+        }
+
+        synchronized void purge(long now) {
+            entries.values().removeIf(entry -> entry.isStale(now));
+        }
+
+    }
+
+    private static final class Entry {
+
+        private byte[] otpHash; // null once withdrawn
+        private long issuedAt;
+        private long expiresAt;
+        private int failures;
+        private long failuresExpireAt;
+
+        /**
+         * Forgets the wrong guesses once {@code lockout} has passed since the last one.
+         */
+        void expireFailures(long now) {
+            if (failures > 0 && failuresExpireAt - now <= 0) {
+                failures = 0;
+            }
+        }
+
+        /**
+         * @return Whether the OTP has expired and no wrong guesses are still counted.
+         */
+        boolean isStale(long now) {
+            return expiresAt - now <= 0 && (failures == 0 || failuresExpireAt - now <= 0);
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.sid.app.auth;
+
+import com.sid.app.model.enums.OtpPurpose;
+import com.sid.app.model.enums.OtpVerification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link OtpStore} shared by all nodes through the {@code otp_code} table, so an OTP issued by one node
+ * can be verified on another behind the load balancer.
+ * <p>
+ * Each operation is a single conditional statement and all times come from the database clock, so the
+ * cooldown, expiry and attempt limit hold across nodes without locks. The table holds at most one row per
+ * email and purpose. A row outlives its OTP while {@code attempts_expire_at} is in the future, so re-issuing
+ * an OTP keeps the wrong guesses, and rows are purged once both have passed.
+ *
+ * @author Siddhant Patni
+ */
+@Component
+@ConditionalOnProperty(name = "app.otp.store", havingValue = "jdbc")
+public class JdbcOtpStore implements OtpStore {
+
+    private static final String SAVE_SQL = """
+            INSERT INTO otp_code (purpose, email, otp_hash, attempts, issued_at, expires_at)
+            VALUES (:purpose, :email, :otpHash, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP + :ttlSeconds * INTERVAL '1 second')
+            ON CONFLICT (purpose, email) DO UPDATE SET
+                otp_hash = EXCLUDED.otp_hash,
+                attempts = CASE WHEN otp_code.attempts_expire_at <= CURRENT_TIMESTAMP THEN 0 ELSE otp_code.attempts END,
+                attempts_expire_at = CASE WHEN otp_code.attempts_expire_at <= CURRENT_TIMESTAMP THEN NULL
+                                          ELSE otp_code.attempts_expire_at END,
+                issued_at = EXCLUDED.issued_at,
+                expires_at = EXCLUDED.expires_at
+            WHERE otp_code.issued_at <= CURRENT_TIMESTAMP - :cooldownSeconds * INTERVAL '1 second'
+            """;
+
+    // Wrong guesses still count while attempts_expire_at is in the future
+    private static final String NOT_LOCKED = "(attempts < :maxAttempts OR attempts_expire_at <= CURRENT_TIMESTAMP)";
+
+    private static final String CONSUME_SQL = "DELETE FROM otp_code WHERE purpose = :purpose AND email = :email " +
+            "AND otp_hash = :otpHash AND expires_at > CURRENT_TIMESTAMP AND " + NOT_LOCKED;
+
+    private static final String COUNT_ATTEMPT_SQL = "UPDATE otp_code SET " +
+            "attempts = CASE WHEN attempts_expire_at <= CURRENT_TIMESTAMP THEN 1 ELSE attempts + 1 END, " +
+            "attempts_expire_at = CURRENT_TIMESTAMP + :lockoutSeconds * INTERVAL '1 second' " +
+            "WHERE purpose = :purpose AND email = :email AND expires_at > CURRENT_TIMESTAMP AND " + NOT_LOCKED + " " +
+            "RETURNING attempts";
+
+    private static final String STATE_SQL = "SELECT expires_at > CURRENT_TIMESTAMP AS live, NOT " + NOT_LOCKED + " AS locked " +
+            "FROM otp_code WHERE purpose = :purpose AND email = :email";
+
+    // Expires the OTP and backdates it past any cooldown; the row stays while its wrong guesses count
+    private static final String WITHDRAW_SQL = "UPDATE otp_code SET expires_at = CURRENT_TIMESTAMP, " +
+            "issued_at = TIMESTAMP 'epoch' WHERE purpose = :purpose AND email = :email AND otp_hash = :otpHash";
+
+    private static final String PURGE_SQL = "DELETE FROM otp_code WHERE expires_at <= CURRENT_TIMESTAMP " +
+            "AND (attempts_expire_at IS NULL OR attempts_expire_at <= CURRENT_TIMESTAMP)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcOtpStore(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean save(OtpPurpose purpose, String email, byte[] otpHash, Duration ttl, Duration resendCooldown) {
+        MapSqlParameterSource parameters = key(purpose, email)
+                .addValue("otpHash", otpHash)
+                .addValue("ttlSeconds", ttl.toSeconds())
+                .addValue("cooldownSeconds", resendCooldown.toSeconds());
+        return jdbcTemplate.update(SAVE_SQL, parameters) == 1;
+    }
+
+    @Override
+    public OtpVerification verify(OtpPurpose purpose, String email, byte[] otpHash, int maxAttempts, Duration lockout) {
+        MapSqlParameterSource parameters = key(purpose, email)
+                .addValue("otpHash", otpHash)
+                .addValue("maxAttempts", maxAttempts)
+                .addValue("lockoutSeconds", lockout.toSeconds());
+        if (jdbcTemplate.update(CONSUME_SQL, parameters) == 1) {
+            return OtpVerification.VERIFIED;
+        }
+
+        List<Integer> attempts = jdbcTemplate.queryForList(COUNT_ATTEMPT_SQL, parameters, Integer.class);
+        if (!attempts.isEmpty()) {
+            return attempts.get(0) >= maxAttempts ? OtpVerification.TOO_MANY_ATTEMPTS : OtpVerification.INVALID;
+        }
+
+        // No live OTP with attempts left: tell a locked one from an expired or missing one
+        List<Map<String, Object>> state = jdbcTemplate.queryForList(STATE_SQL, parameters);
+        if (state.isEmpty()) {
+            return OtpVerification.INVALID;
+        }
+        if (Boolean.TRUE.equals(state.get(0).get("locked"))) {
+            return OtpVerification.TOO_MANY_ATTEMPTS;
+        }
+        return Boolean.TRUE.equals(state.get(0).get("live")) ? OtpVerification.INVALID : OtpVerification.EXPIRED;
+    }
+
+    @Override
+    public void withdraw(OtpPurpose purpose, String email, byte[] otpHash) {
+        jdbcTemplate.update(WITHDRAW_SQL, key(purpose, email).addValue("otpHash", otpHash));
+    }
+
+    @Override
+    public void purgeExpired() {
+        jdbcTemplate.update(PURGE_SQL, new MapSqlParameterSource());
+    }
+
+    private static MapSqlParameterSource key(OtpPurpose purpose, String email) {
+        return new MapSqlParameterSource()
+                .addValue("purpose", purpose.name())
+                .addValue("email", email);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.sid.app.auth;
+
+import com.sid.app.constants.AppConstants;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Authenticates requests carrying {@code Authorization: Bearer <jwt>}.
+ * <p>
+ * Browsers cannot set headers on an {@code EventSource}, so the SSE stock stream also accepts a token in its
+ * {@code access_token} query parameter. Only short-lived stream tokens from {@link JwtUtil#generateStreamToken}
+ * are accepted there, and they are rejected everywhere else, so an access token never ends up in a URL.
+ * <p>
+ * Tokens are verified with the pre-built parser of {@link JwtUtil}; verified access tokens are remembered in
+ * {@link JwtTokenCache} until they expire, so hot tokens skip the HMAC and JSON parsing on later requests.
+ * Verification is CPU-only and runs inline on the event loop.
+ *
+ * @author Siddhant Patni
+ */
+@Slf4j
+@Component
+public class JwtAuthenticationManager implements ReactiveAuthenticationManager, ServerAuthenticationConverter {
+
+    public static final String ACCESS_TOKEN_PARAM = "access_token";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final JwtTokenCache tokenCache;
+
+    public JwtAuthenticationManager(JwtUtil jwtUtil, JwtTokenCache tokenCache) {
+        this.jwtUtil = jwtUtil;
+        this.tokenCache = tokenCache;
+    }
+
+    /**
+     * Extracts the bearer token, or the stream token on the SSE stock stream; requests without one continue
+     * unauthenticated. The principal of the result records the scope the token must have.
+     */
+    @Override
+    public Mono<Authentication> convert(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        String header = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return unauthenticated(null, header.substring(BEARER_PREFIX.length()));
+        }
+        if (AppConstants.STOCK_NIFTY_STOCK_STREAM_ENDPOINT.equals(request.getPath().pathWithinApplication().value())) {
+            return unauthenticated(JwtUtil.STREAM_SCOPE, request.getQueryParams().getFirst(ACCESS_TOKEN_PARAM));
+        }
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        String token = (String) authentication.getCredentials();
+        String scope = (String) authentication.getPrincipal();
+
+        // Only unscoped access tokens are cached
+        String subject = scope == null ? tokenCache.get(token) : null;
+        if (subject == null) {
+            try {
+                Claims claims = jwtUtil.parseClaims(token);
+                subject = claims.getSubject();
+                if (subject == null || claims.getExpiration() == null) {
+                    return Mono.error(new BadCredentialsException("Token has no subject or expiry"));
+                }
+                if (!Objects.equals(scope, claims.get(JwtUtil.SCOPE_CLAIM, String.class))) {
+                    return Mono.error(new BadCredentialsException("Token is not valid for this endpoint"));
+                }
+                if (scope == null) {
+                    tokenCache.put(token, subject, claims.getExpiration().getTime());
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("authenticate() : Rejected token: {}", e.getMessage());
+                return Mono.error(new BadCredentialsException("Invalid or expired token", e));
+            }
+        }
+        return Mono.just(UsernamePasswordAuthenticationToken.authenticated(subject, token, List.of()));
+    }
+
+    private static Mono<Authentication> unauthenticated(String scope, String token) {
+        if (token == null || token.isBlank()) {
+            return Mono.empty();
+        }
+        return Mono.just(UsernamePasswordAuthenticationToken.unauthenticated(scope, token.trim()));
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.sid.app.auth;
+
+import com.sid.app.config.JwtProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of tokens whose signature has already been verified, keyed by the SHA-256 of the whole token.
+ * <p>
+ * An entry is only trusted until the token's own expiry. When the cache is full, expired entries are purged;
+ * if it is still full, new tokens are simply not cached and are verified on every request.
+ *
+ * @author Siddhant Patni
+ */
+@Component
+public class JwtTokenCache {
+
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public JwtTokenCache(JwtProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    JwtTokenCache(JwtProperties properties, LongSupplier clock) {
+        this.maxEntries = Math.max(0, properties.getCacheMaxEntries());
+        this.clock = clock;
+    }
+
+    /**
+     * @return The subject of a cached, unexpired token, or {@code null}.
+     */
+    public String get(String token) {
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= clock.getAsLong()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.subject();
+    }
+
+    public void put(String token, String subject, long expiresAtMillis) {
+        if (entries.size() >= maxEntries) {
+            purgeExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(hash(token), new Entry(subject, expiresAtMillis));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void purgeExpired() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Entry(String subject, long expiresAtMillis) {
+    }
+
+}
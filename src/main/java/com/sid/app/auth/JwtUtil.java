@@ -1,23 +1,48 @@
 package com.sid.app.auth;
 
+import com.sid.app.config.JwtProperties;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.time.Duration;
 import java.util.Date;
 
+/**
+ * Issues and validates JWTs, signed with the HMAC key from {@code app.jwt.secret}. The parser is built once;
+ * it is immutable and thread-safe.
+ */
 @Component
 public class JwtUtil {
+    /**
+     * Claim naming what a restricted token may be used for; ordinary access tokens have none.
+     */
+    public static final String SCOPE_CLAIM = "scope";
+    public static final String STREAM_SCOPE = "stream";
+
+    private static final int MIN_SECRET_BYTES = 32;
+
     private final SecretKey secretKey;
+    private final JwtParser parser;
     private final long expirationTime = 3600000; // 1 hour
 
-    public JwtUtil() {
-        String secretString = "my-super-secret-key-which-is-at-least-32-characters-long!";
-        byte[] keyBytes = Base64.getEncoder().encode(secretString.getBytes(StandardCharsets.UTF_8));
+    /**
+     * @throws IllegalStateException if the secret is missing or shorter than the 256 bits HS256 needs, so
+     *                               the application refuses to start.
+     */
+    public JwtUtil(JwtProperties properties) {
+        String secret = properties.getSecret();
+        byte[] keyBytes = secret == null ? new byte[0] : secret.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.jwt.secret (JWT_SECRET) must be set to at least "
+                    + MIN_SECRET_BYTES + " bytes");
+        }
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     public String generateToken(String email) {
@@ -29,13 +54,31 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * Issues a short-lived token that is only accepted by the SSE stock stream, as its {@code access_token}
+     * query parameter.
+     */
+    public String generateStreamToken(String email, Duration ttl) {
+        return Jwts.builder()
+                .setSubject(email)
+                .claim(SCOPE_CLAIM, STREAM_SCOPE)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + ttl.toMillis()))
+                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
     public String validateToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
+    }
+
+    /**
+     * Verifies the signature and expiry of a token.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired.
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
 }
\ No newline at end of file
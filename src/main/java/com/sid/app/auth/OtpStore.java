@@ -0,0 +1,45 @@
+package com.sid.app.auth;
+
+import com.sid.app.model.enums.OtpPurpose;
+import com.sid.app.model.enums.OtpVerification;
+
+import java.time.Duration;
+
+/**
+ * Storage of issued OTPs, keyed by purpose and email. Only hashes of the OTPs are stored.
+ * <p>
+ * Implementations enforce expiry, the resend cooldown and the attempt limit atomically, so the same
+ * OTP can never be verified twice, even by concurrent requests on different nodes. Wrong guesses are
+ * counted per purpose and email rather than per OTP: issuing a new OTP keeps the count, which is cleared
+ * only by a successful verification or once {@code lockout} has passed since the last wrong guess.
+ *
+ * @author Siddhant Patni
+ */
+public interface OtpStore {
+
+    /**
+     * Stores a new OTP, replacing the previous one but keeping its count of wrong guesses.
+     *
+     * @return {@code false} if the previous OTP was issued less than {@code resendCooldown} ago; nothing is stored then.
+     */
+    boolean save(OtpPurpose purpose, String email, byte[] otpHash, Duration ttl, Duration resendCooldown);
+
+    /**
+     * Checks an OTP and consumes it if it matches, which also clears the wrong guesses. Every mismatch counts
+     * as a wrong guess; after {@code maxAttempts} of them every check fails until {@code lockout} has passed
+     * since the last one, whatever OTP is presented.
+     */
+    OtpVerification verify(OtpPurpose purpose, String email, byte[] otpHash, int maxAttempts, Duration lockout);
+
+    /**
+     * Withdraws an OTP that could not be sent: it stops being valid and no longer holds back a new one.
+     * Wrong guesses are kept. Does nothing if a different OTP has been stored since.
+     */
+    void withdraw(OtpPurpose purpose, String email, byte[] otpHash);
+
+    /**
+     * Removes expired OTPs whose wrong guesses are no longer counted.
+     */
+    void purgeExpired();
+
+}
@@ -12,4 +12,9 @@ public class AESProperties {
     private String algorithm;
     private String secretKey;
 
+    /**
+     * Batch decryptions with at least this many fields are split across cores.
+     */
+    private int parallelDecryptThreshold = 512;
+
 }
\ No newline at end of file
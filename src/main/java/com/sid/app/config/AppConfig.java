@@ -1,18 +1,11 @@
 package com.sid.app.config;
 
 import com.sid.app.constants.AppConstants;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.netty.http.client.HttpClient;
-
-import java.time.Duration;
-import java.util.concurrent.TimeUnit;
 
 /**
  * The type App config.
@@ -41,7 +34,7 @@ public class AppConfig {
      * @return the web client
      */
     @Bean
-    public WebClient webClientNSE() {
+    public WebClient webClientNSE(OutboundHttpClients outboundHttpClients) {
         return WebClient.builder()
                 .baseUrl(properties.getNifty50URL())
                 .defaultHeader(HttpHeaders.USER_AGENT, AppConstants.WEBCLIENT_USER_AGENT)
@@ -53,9 +46,7 @@ public class AppConfig {
                 .defaultHeader(AppConstants.HEADER_PRAGMA, AppConstants.WEBCLIENT_PRAGMA)
                 .defaultHeader(AppConstants.HEADER_CONNECTION, AppConstants.WEBCLIENT_CONNECTION)
                 .defaultHeader(AppConstants.HEADER_HOST, AppConstants.WEBCLIENT_HOST)
-                .clientConnector(new ReactorClientHttpConnector(HttpClient.create()
-                        .keepAlive(false)
-                        .responseTimeout(Duration.ofSeconds(properties.getTimeout()))))
+                .clientConnector(outboundHttpClients.connector(AppConstants.HTTP_POOL_NSE))
                 .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(properties.getBufferSize()))
                 .build();
     }
@@ -79,13 +70,4 @@ public class AppConfig {
                 .build();
     }*/
 
-    private HttpClient getHttpClient() {
-        return HttpClient
-                .create()
-                .keepAlive(false)
-                .responseTimeout(Duration.ofSeconds(properties.getTimeout()))
-                .doOnConnected(conn -> conn.addHandlerLast(new ReadTimeoutHandler(properties.getTimeout(), TimeUnit.SECONDS))
-                        .addHandlerLast(new WriteTimeoutHandler(properties.getTimeout(), TimeUnit.SECONDS)));
-    }
-
 }
\ No newline at end of file
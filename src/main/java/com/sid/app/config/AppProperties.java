@@ -16,12 +16,6 @@ public class AppProperties {
     @Value("${spring.mail.username}")
     private String fromEmail;
 
-    @Value("${spring.mail.email-subject}")
-    private String emailSubject;
-
-    @Value("${spring.mail.email-body}")
-    private String emailBody;
-
     @Value("${webclient.config.memory-buffer-size}")
     private int bufferSize;
 
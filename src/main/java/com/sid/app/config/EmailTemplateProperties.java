@@ -0,0 +1,35 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Named email templates, configured under {@code app.email.templates.<name>}.
+ * Subjects and bodies may contain {@code {PLACEHOLDER}}s.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.email")
+public class EmailTemplateProperties {
+
+    private Map<String, Template> templates = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Template {
+
+        private String subject;
+
+        private String body;
+
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mode and sizing of the scheduler that runs blocking (JPA, JDBC, SMTP) work off the Netty event loop.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.execution")
+public class ExecutionProperties {
+
+    /**
+     * {@code BOUNDED} runs blocking work on a fixed platform-thread pool; {@code VIRTUAL} starts a virtual
+     * thread per task, with concurrency capped at the Hikari pool size.
+     */
+    private Mode mode = Mode.BOUNDED;
+
+    /**
+     * Worker threads. Matches the Hikari pool by default, since almost every task holds a connection.
+     */
+    private int poolSize = 25;
+
+    /**
+     * Tasks waiting for a worker ({@code BOUNDED}) or a permit ({@code VIRTUAL}). Once full, new requests are
+     * rejected with 503 instead of queueing without bound.
+     */
+    private int queueCapacity = 1000;
+
+    private String threadNamePrefix = "blocking-";
+
+    public enum Mode {
+        BOUNDED,
+        VIRTUAL
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of JWT request authentication.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtProperties {
+
+    /**
+     * HMAC key signing every token, at least 32 bytes. Supplied through the environment, never committed.
+     */
+    private String secret;
+
+    /**
+     * Recently validated tokens remembered, so repeat requests skip signature checks and parsing.
+     */
+    private int cacheMaxEntries = 10_000;
+
+    /**
+     * Lifetime of the tokens handed out for the SSE stock stream, which browsers pass in the query string.
+     */
+    private Duration streamTokenTtl = Duration.ofMinutes(1);
+
+}
@@ -0,0 +1,51 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of the outbound mail queue.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.mail")
+public class MailQueueProperties {
+
+    /**
+     * Emails held in memory; beyond this they spill to the database, or are dropped if spillover is off.
+     */
+    private int capacity = 1000;
+
+    /**
+     * Sender threads; each holds at most one SMTP connection at a time.
+     */
+    private int workers = 2;
+
+    /**
+     * Emails sent over one SMTP connection.
+     */
+    private int batchSize = 20;
+
+    /**
+     * Delivery attempts per email, including the first.
+     */
+    private int maxAttempts = 5;
+
+    private Duration initialBackoff = Duration.ofSeconds(2);
+
+    private Duration maxBackoff = Duration.ofMinutes(2);
+
+    /**
+     * Persist emails to the {@code outbound_email} table when the queue is full and on shutdown.
+     * Sensitive emails such as OTPs are never persisted.
+     */
+    private boolean spillover = false;
+
+}
@@ -0,0 +1,53 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of the one-time passwords sent for login and password reset.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.otp")
+public class OtpProperties {
+
+    /**
+     * {@code memory} keeps OTPs on this node only; {@code jdbc} shares them through Postgres, for more than one node.
+     */
+    private String store = "memory";
+
+    private int length = 6;
+
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * Wrong guesses allowed per email and purpose, counted across re-issued OTPs; further attempts fail until
+     * {@link #lockout} has passed.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * How long wrong guesses are remembered after the last one. A successful verification clears them sooner.
+     */
+    private Duration lockout = Duration.ofMinutes(30);
+
+    /**
+     * Minimum time between two OTPs for the same email and purpose.
+     */
+    private Duration resendCooldown = Duration.ofSeconds(30);
+
+    /**
+     * Upper bound of the in-memory store; the oldest OTPs are evicted beyond it.
+     */
+    private int maxEntries = 100_000;
+
+    private int shards = 16;
+
+}
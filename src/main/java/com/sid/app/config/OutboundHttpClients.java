@@ -0,0 +1,120 @@
+package com.sid.app.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.util.AttributeKey;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds outbound {@link HttpClient}s on named, keep-alive connection pools ({@link OutboundHttpProperties}).
+ * <p>
+ * Each name gets one {@link ConnectionProvider}, shared by every client built for it and disposed on shutdown.
+ * With metrics enabled, Reactor Netty publishes {@code reactor.netty.http.client.connect.time},
+ * {@code .tls.handshake.time} and {@code .response.time} per remote address, and this class adds
+ * {@code http.client.first.byte} (request written to response headers received) tagged by pool and host.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Component
+public class OutboundHttpClients {
+
+    private static final AttributeKey<Long> REQUEST_SENT_AT = AttributeKey.valueOf("outboundRequestSentAt");
+
+    private final OutboundHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ConnectionProvider> providers = new ConcurrentHashMap<>();
+
+    public OutboundHttpClients(OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param name The pool name (e.g., "nse").
+     * @return A connector for {@code WebClient.Builder#clientConnector} backed by the named pool.
+     */
+    public ReactorClientHttpConnector connector(String name) {
+        return new ReactorClientHttpConnector(httpClient(name));
+    }
+
+    /**
+     * @param name The pool name (e.g., "nse").
+     * @return A keep-alive client on the named pool.
+     */
+    public HttpClient httpClient(String name) {
+        OutboundHttpProperties.Pool pool = properties.pool(name);
+        HttpClient client = HttpClient.create(providers.computeIfAbsent(name, this::newProvider))
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+                .responseTimeout(pool.getResponseTimeout());
+
+        if (pool.isHttp2()) {
+            client = client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        if (pool.isMetrics()) {
+            client = client.metrics(true, OutboundHttpClients::pathOnly)
+                    .doAfterRequest((request, connection) ->
+                            connection.channel().attr(REQUEST_SENT_AT).set(System.nanoTime()))
+                    .doOnResponse((response, connection) -> {
+                        Long sentAt = connection.channel().attr(REQUEST_SENT_AT).getAndSet(null);
+                        if (sentAt != null) {
+                            firstByteTimer(name, connection.channel().remoteAddress())
+                                    .record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+                        }
+                    });
+        }
+        return client;
+    }
+
+    @PreDestroy
+    private void dispose() {
+        providers.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private ConnectionProvider newProvider(String name) {
+        OutboundHttpProperties.Pool pool = properties.pool(name);
+        log.info("Creating outbound connection pool '{}' (maxConnections: {}, http2: {})", name,
+                pool.getMaxConnections(), pool.isHttp2());
+        return ConnectionProvider.builder(name)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictionInterval())
+                .metrics(pool.isMetrics())
+                .build();
+    }
+
+    private Timer firstByteTimer(String name, SocketAddress remoteAddress) {
+        String host = remoteAddress instanceof InetSocketAddress address ? address.getHostString() : String.valueOf(remoteAddress);
+        return Timer.builder("http.client.first.byte")
+                .description("Time from request written to response headers received")
+                .tag("pool", name)
+                .tag("host", host)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drops the query string, so metrics are tagged by path and not by every parameter value.
+     */
+    private static String pathOnly(String uri) {
+        int query = uri.indexOf('?');
+        return query < 0 ? uri : uri.substring(0, query);
+    }
+
+}
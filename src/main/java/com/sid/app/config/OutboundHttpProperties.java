@@ -0,0 +1,77 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Named connection pools for outbound HTTP calls, configured under {@code webclient.pools.<name>}.
+ * A pool without configuration uses the defaults below.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "webclient")
+public class OutboundHttpProperties {
+
+    private Map<String, Pool> pools = new HashMap<>();
+
+    /**
+     * @return The settings of the named pool, or the defaults if it is not configured.
+     */
+    public Pool pool(String name) {
+        return pools.getOrDefault(name, new Pool());
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * Connections kept per remote host.
+         */
+        private int maxConnections = 20;
+
+        /**
+         * Requests allowed to wait for a connection; beyond this they fail immediately.
+         */
+        private int pendingAcquireMaxCount = 100;
+
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Idle connections are closed after this long.
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        /**
+         * Connections are retired after this long, so DNS changes are eventually picked up.
+         */
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        private Duration evictionInterval = Duration.ofSeconds(30);
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        private Duration responseTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Offer HTTP/2 via ALPN, falling back to HTTP/1.1 when the server does not support it.
+         */
+        private boolean http2 = false;
+
+        /**
+         * Publish pool, connect, TLS, first-byte and response timings per remote host.
+         */
+        private boolean metrics = true;
+
+    }
+
+}
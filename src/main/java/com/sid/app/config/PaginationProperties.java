@@ -0,0 +1,33 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Page size limits for the keyset-paginated "fetch all" endpoints.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.pagination")
+public class PaginationProperties {
+
+    private int defaultLimit = 100;
+    private int maxLimit = 1000;
+
+    /**
+     * @param requested The limit asked for by the client, may be {@code null}.
+     * @return The requested limit clamped to {@code [1, maxLimit]}, or the default limit if none was requested.
+     */
+    public int resolveLimit(Integer requested) {
+        if (requested == null) {
+            return defaultLimit;
+        }
+        return Math.max(1, Math.min(requested, maxLimit));
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.sid.app.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * R2DBC setup for the reactive read path, enabled with the {@code r2dbc} profile.
+ * <p>
+ * The connection pool is deliberately not exposed as a {@code ConnectionFactory} bean: Spring Boot backs
+ * off its JDBC {@code DataSource} when one exists, and JPA must keep working for every write.
+ * The R2DBC auto-configurations are excluded in {@code application.yaml} for the same reason.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Configuration
+@Profile("r2dbc")
+public class ReactiveDatabaseConfig {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ReactiveDatabaseProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.getUrl())
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                .build();
+
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(properties.getInitialPoolSize())
+                .maxSize(properties.getMaxPoolSize())
+                .name("r2dbc-read")
+                .build());
+
+        log.info("R2DBC read path enabled with max pool size {}.", properties.getMaxPoolSize());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void closePool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Connection settings for the R2DBC read path, used only when the {@code r2dbc} profile is active.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.r2dbc")
+public class ReactiveDatabaseProperties {
+
+    /**
+     * For example {@code r2dbc:postgresql://localhost:5432/tracker_manager_db?schema=dev}.
+     */
+    private String url;
+    private String username;
+    private String password;
+    private int initialPoolSize = 2;
+    private int maxPoolSize = 10;
+
+}
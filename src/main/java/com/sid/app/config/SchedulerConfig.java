@@ -0,0 +1,230 @@
+package com.sid.app.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the scheduler that controllers and services use to run blocking calls.
+ * <p>
+ * In {@code BOUNDED} mode the executor is a fixed-size pool with a bounded queue, so a slow database
+ * slows down only the requests waiting on it: the event loop stays free and overload surfaces as
+ * rejections instead of an ever-growing backlog.
+ * <p>
+ * In {@code VIRTUAL} mode every task gets its own virtual thread. A semaphore sized to the Hikari pool
+ * caps how many run at once, so waiting tasks park cheaply instead of queueing inside Hikari until
+ * its connection timeout. At most {@code queue-capacity} tasks may wait for a permit; beyond that,
+ * submissions are rejected just like a full queue in {@code BOUNDED} mode, and cancelling a waiting
+ * task interrupts its wait.
+ * <p>
+ * Either way, active count and queue depth are published through Micrometer as {@code executor.active}
+ * and {@code executor.queued} with the tag {@code name=blocking}, so the two modes can be compared
+ * under the same load.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Configuration
+public class SchedulerConfig {
+
+    public static final String BLOCKING_EXECUTOR_NAME = "blocking";
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(ExecutionProperties properties,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxPoolSize) {
+        ExecutorService executor = properties.getMode() == ExecutionProperties.Mode.VIRTUAL
+                ? virtualThreadExecutor(properties, meterRegistry, maxPoolSize)
+                : boundedExecutor(properties);
+
+        return Schedulers.fromExecutorService(
+                ExecutorServiceMetrics.monitor(meterRegistry, executor, BLOCKING_EXECUTOR_NAME),
+                BLOCKING_EXECUTOR_NAME);
+    }
+
+    private ExecutorService boundedExecutor(ExecutionProperties properties) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                properties.getPoolSize(),
+                properties.getPoolSize(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, properties.getThreadNamePrefix() + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        log.info("Blocking scheduler created in BOUNDED mode with {} threads and queue capacity {}.",
+                properties.getPoolSize(), properties.getQueueCapacity());
+        return executor;
+    }
+
+    private ExecutorService virtualThreadExecutor(ExecutionProperties properties, MeterRegistry meterRegistry, int maxConcurrency) {
+        Semaphore permits = new Semaphore(maxConcurrency, true);
+        ConcurrencyLimitedExecutorService executor = new ConcurrencyLimitedExecutorService(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(properties.getThreadNamePrefix(), 1).factory()),
+                permits, properties.getQueueCapacity());
+
+        Gauge.builder("executor.active", permits, p -> maxConcurrency - p.availablePermits())
+                .tag("name", BLOCKING_EXECUTOR_NAME)
+                .description("The approximate number of tasks that are actively executing")
+                .register(meterRegistry);
+        Gauge.builder("executor.queued", executor, ConcurrencyLimitedExecutorService::waitingCount)
+                .tag("name", BLOCKING_EXECUTOR_NAME)
+                .description("The approximate number of tasks waiting for a permit")
+                .register(meterRegistry);
+
+        log.info("Blocking scheduler created in VIRTUAL mode with max concurrency {} and {} waiting task(s).",
+                maxConcurrency, properties.getQueueCapacity());
+        return executor;
+    }
+
+    /**
+     * Runs each task on the delegate but only while holding a permit. The permit is taken on the
+     * task's own (virtual) thread, so waiting never blocks the submitting thread. Submissions are
+     * rejected once {@code maxWaiting} tasks are already waiting.
+     */
+    private static final class ConcurrencyLimitedExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+        private final int maxWaiting;
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private ConcurrencyLimitedExecutorService(ExecutorService delegate, Semaphore permits, int maxWaiting) {
+            this.delegate = delegate;
+            this.permits = permits;
+            this.maxWaiting = maxWaiting;
+        }
+
+        private int waitingCount() {
+            return waiting.get();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                throw new RejectedExecutionException("Blocking executor saturated: " + maxWaiting + " task(s) already waiting");
+            }
+            try {
+                delegate.execute(command instanceof PermitTask<?> ? command : new PermitTask<>(command, null));
+            } catch (RejectedExecutionException e) {
+                waiting.decrementAndGet();
+                throw e;
+            }
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+            return new PermitTask<>(runnable, value);
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+            return new PermitTask<>(callable);
+        }
+
+        /**
+         * Waits for a permit before running. Cancelling with interruption (as Reactor does when the
+         * subscriber goes away) interrupts the wait, so the task neither keeps waiting nor runs later.
+         */
+        private final class PermitTask<T> extends FutureTask<T> {
+
+            private volatile Thread waiter;
+
+            private PermitTask(Callable<T> callable) {
+                super(callable);
+            }
+
+            private PermitTask(Runnable runnable, T value) {
+                super(runnable, value);
+            }
+
+            @Override
+            public void run() {
+                boolean acquired = false;
+                waiter = Thread.currentThread();
+                try {
+                    if (!isCancelled()) {
+                        permits.acquire();
+                        acquired = true;
+                    }
+                } catch (InterruptedException e) {
+                    setException(e); // No-op when the interrupt came from cancel()
+                } finally {
+                    waiter = null;
+                    waiting.decrementAndGet();
+                }
+                if (!acquired) {
+                    return;
+                }
+                try {
+                    super.run();
+                } finally {
+                    permits.release();
+                }
+            }
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                Thread thread = waiter;
+                if (cancelled && mayInterruptIfRunning && thread != null) {
+                    thread.interrupt();
+                }
+                return cancelled;
+            }
+
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.sid.app.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs, such as the monthly spend reconciliation.
+ *
+ * @author Siddhant Patni
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,66 +1,76 @@
 package com.sid.app.config;
 
+import com.sid.app.auth.JwtAuthenticationManager;
 import com.sid.app.constants.AppConstants;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.NegatedServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsConfigurationSource;
 import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 
+/**
+ * Stateless JWT security: every endpoint except sign-up, login, OTP, password reset, API docs and the health
+ * check requires {@code Authorization: Bearer <jwt>}. The SSE stock stream also takes a short-lived stream
+ * token in its {@code access_token} query parameter, see {@link JwtAuthenticationManager}. Nothing is kept in
+ * a session.
+ */
 @Configuration
 @EnableWebFluxSecurity
 public class SecurityConfig {
 
+    private static final String[] PUBLIC_PATHS = {
+            "/swagger-ui.html",
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/webjars/**",
+            "/actuator/health/**",
+            AppConstants.USER_REGISTER_ENDPOINT,
+            AppConstants.USER_LOGIN_ENDPOINT,
+            AppConstants.LOGIN_REQUEST_OTP_ENDPOINT,
+            AppConstants.FORGOT_PASSWORD_REQUEST_OTP_ENDPOINT,
+            AppConstants.FORGOT_PASSWORD_RESET_ENDPOINT,
+            AppConstants.VERIFY_OTP_ENDPOINT
+    };
+
     @Bean
-    public SecurityWebFilterChain securityFilterChain(ServerHttpSecurity http) {
+    public SecurityWebFilterChain securityFilterChain(ServerHttpSecurity http, JwtAuthenticationManager jwtAuthenticationManager) {
+        HttpStatusServerEntryPoint unauthorized = new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED);
+
+        AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(jwtAuthenticationManager);
+        jwtFilter.setServerAuthenticationConverter(jwtAuthenticationManager);
+        jwtFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+        jwtFilter.setAuthenticationFailureHandler(new ServerAuthenticationEntryPointFailureHandler(unauthorized));
+        // A stale token sent to a public endpoint (e.g. login) must not turn it into a 401
+        jwtFilter.setRequiresAuthenticationMatcher(
+                new NegatedServerWebExchangeMatcher(ServerWebExchangeMatchers.pathMatchers(PUBLIC_PATHS)));
+
         return http
                 .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(unauthorized))
+                .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
                 .authorizeExchange(auth -> auth
-                        .pathMatchers(
-                                "/swagger-ui.html",
-                                "/swagger-ui/**",
-                                "/v3/api-docs/**",
-                                "/webjars/**",
-                                AppConstants.DB_BACKUP_ENDPOINT,
-                                AppConstants.USER_REGISTER_ENDPOINT,
-                                AppConstants.USER_LOGIN_ENDPOINT,
-                                AppConstants.LOGIN_REQUEST_OTP_ENDPOINT,
-                                AppConstants.VEHICLE_REGISTER_ENDPOINT,
-                                AppConstants.VEHICLE_BULK_REGISTER_ENDPOINT,
-                                AppConstants.VEHICLE_ENDPOINT,
-                                AppConstants.FETCH_ALL_VEHICLES_ENDPOINT,
-                                AppConstants.FETCH_ALL_VEHICLES_BY_USER_ENDPOINT,
-                                AppConstants.FETCH_ALL_USERS_ENDPOINT,
-                                AppConstants.USER_ENDPOINT,
-                                AppConstants.VEHICLE_ALL_FUEL_EXPENSE_ENDPOINT,
-                                AppConstants.VEHICLE_FUEL_EXPENSE_ENDPOINT,
-                                AppConstants.VEHICLE_FUEL_BULK_EXPENSE_ENDPOINT,
-                                AppConstants.STOCK_NIFTY_STOCK_DATA_ENDPOINT,
-                                AppConstants.FORGOT_PASSWORD_REQUEST_OTP_ENDPOINT,
-                                AppConstants.FORGOT_PASSWORD_RESET_ENDPOINT,
-                                AppConstants.VERIFY_OTP_ENDPOINT,
-                                AppConstants.VEHICLE_SERVICING_ENDPOINT,
-                                AppConstants.VEHICLE_SERVICE_BULK_ENDPOINT,
-                                AppConstants.CREDENTIALS_ENDPOINT,
-                                AppConstants.BANK_ACCOUNT_ENDPOINT,
-                                AppConstants.FETCH_BANK_ACCOUNT_BY_USER_ENDPOINT,
-                                AppConstants.BULK_BANK_ACCOUNT_ENDPOINT,
-                                AppConstants.FETCH_ALL_BANK_ACCOUNTS,
-                                AppConstants.BANK_CARD_ENDPOINT,
-                                AppConstants.BULK_BANK_CARD_ENDPOINT,
-                                AppConstants.BANK_CARD_BY_BANK_ID_ENDPOINT,
-                                AppConstants.BANK_CARD_BY_BANK_CARD_ID_ENDPOINT
-                        )
-                        .permitAll()
-                        .anyExchange()
-                        .authenticated()
+                        .pathMatchers(HttpMethod.OPTIONS).permitAll()
+                        .pathMatchers(PUBLIC_PATHS).permitAll()
+                        .anyExchange().authenticated()
                 )
                 .build();
     }
@@ -0,0 +1,36 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of the per-index NSE snapshot cache.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.stock-cache")
+public class StockCacheProperties {
+
+    /**
+     * How long a snapshot is served without asking NSE again.
+     */
+    private Duration ttl = Duration.ofSeconds(5);
+
+    /**
+     * How old a snapshot may be and still be served when NSE fails.
+     */
+    private Duration staleTtl = Duration.ofMinutes(5);
+
+    /**
+     * Maximum number of indices kept, so arbitrary index names cannot grow the cache without bound.
+     */
+    private int maxEntries = 64;
+
+}
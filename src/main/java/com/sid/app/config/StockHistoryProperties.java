@@ -0,0 +1,29 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the in-memory intraday index history.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.stock-history")
+public class StockHistoryProperties {
+
+    /**
+     * Snapshots kept per index; the oldest is overwritten once full.
+     */
+    private int capacity = 1000;
+
+    /**
+     * Maximum number of indices with a history.
+     */
+    private int maxIndices = 16;
+
+}
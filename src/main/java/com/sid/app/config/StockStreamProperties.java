@@ -0,0 +1,41 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of the live index stream.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.stock-stream")
+public class StockStreamProperties {
+
+    /**
+     * How often the shared poller of an index fetches a new snapshot.
+     */
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    /**
+     * How long a poller keeps running after its last subscriber leaves, so quick reconnects reuse it.
+     */
+    private Duration idleGrace = Duration.ofSeconds(30);
+
+    /**
+     * Interval of SSE keep-alive comments, so idle connections are not closed by proxies.
+     */
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    /**
+     * Maximum number of indices that can be streamed at the same time.
+     */
+    private int maxIndices = 16;
+
+}
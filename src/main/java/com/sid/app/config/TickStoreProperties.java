@@ -0,0 +1,44 @@
+package com.sid.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the on-disk index tick store.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.tick-store")
+public class TickStoreProperties {
+
+    /**
+     * Whether polled snapshots are written to the tick store.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Root directory of the tick files; one sub-directory per index, one file per IST trading day.
+     */
+    private String directory = "data/ticks";
+
+    /**
+     * Records a day file grows by whenever its mapping is full.
+     */
+    private int growthRecords = 65536;
+
+    /**
+     * Days a single read may span; longer ranges keep only their most recent days.
+     */
+    private int maxRangeDays = 31;
+
+    /**
+     * Read-only mappings of past day files kept open for reuse across reads.
+     */
+    private int mappedFiles = 64;
+
+}
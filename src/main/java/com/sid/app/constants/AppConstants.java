@@ -24,12 +24,23 @@ public class AppConstants {
     public static final String VEHICLE_ENDPOINT = "/api/v1/tracker-manager-service/vehicle";
     public static final String VEHICLE_SERVICING_ENDPOINT = "/api/v1/tracker-manager-service/vehicle/service";
     public static final String VEHICLE_SERVICE_BULK_ENDPOINT = "/api/v1/tracker-manager-service/vehicle/bulk-service";
+    public static final String VEHICLE_SERVICE_EXPORT_ENDPOINT = "/api/v1/tracker-manager-service/vehicle/service/export";
     public static final String FETCH_ALL_USERS_ENDPOINT = "/api/v1/tracker-manager-service/user/fetch";
     public static final String USER_ENDPOINT = "/api/v1/tracker-manager-service/user";
     public static final String VEHICLE_FUEL_EXPENSE_ENDPOINT = "/api/v1/tracker-manager-service/vehicle/fuel-expense";
     public static final String VEHICLE_FUEL_BULK_EXPENSE_ENDPOINT = "/api/v1/tracker-manager-service/vehicle/bulk-fuel-expense";
+    public static final String VEHICLE_FUEL_EXPENSE_IMPORT_ENDPOINT = "/api/v1/tracker-manager-service/vehicle/fuel-expense/import";
     public static final String VEHICLE_ALL_FUEL_EXPENSE_ENDPOINT = "/api/v1/tracker-manager-service/vehicle/all-fuel-expense";
+    public static final String VEHICLE_FUEL_EXPENSE_EXPORT_ENDPOINT = "/api/v1/tracker-manager-service/vehicle/fuel-expense/export";
+    public static final String VEHICLE_FUEL_EXPENSE_ANALYTICS_ENDPOINT = "/api/v1/tracker-manager-service/vehicle/fuel-expense/analytics";
+    public static final String VEHICLE_MONTHLY_SPEND_ENDPOINT = "/api/v1/tracker-manager-service/vehicle/monthly-spend";
     public static final String STOCK_NIFTY_STOCK_DATA_ENDPOINT = "/api/v1/tracker-manager-service/stock/nifty-data";
+    public static final String STOCK_NIFTY_STOCK_STREAM_ENDPOINT = "/api/v1/tracker-manager-service/stock/nifty-data/stream";
+    public static final String STOCK_NIFTY_STOCK_STREAM_TOKEN_ENDPOINT = "/api/v1/tracker-manager-service/stock/nifty-data/stream/token";
+    public static final String STOCK_NIFTY_STOCK_HISTORY_ENDPOINT = "/api/v1/tracker-manager-service/stock/nifty-data/history";
+    public static final String STOCK_TICKS_ENDPOINT = "/api/v1/tracker-manager-service/stock/ticks";
+    public static final String STOCK_TICKS_RAW_ENDPOINT = "/api/v1/tracker-manager-service/stock/ticks/raw";
+    public static final String STOCK_TICKS_SYMBOLS_ENDPOINT = "/api/v1/tracker-manager-service/stock/ticks/symbols";
     public static final String CREDENTIALS_ENDPOINT = "/api/v1/tracker-manager-service/credentials";
     public static final String BANK_ACCOUNT_ENDPOINT = "/api/v1/tracker-manager-service/financial/bank-account";
     public static final String BULK_BANK_ACCOUNT_ENDPOINT = "/api/v1/tracker-manager-service/financial/bulk-bank-account";
@@ -52,6 +63,9 @@ public class AppConstants {
     public static final String SUCCESS_MESSAGE_REGISTRATION_SUCCESSFUL = "Registration successful";
     public static final String LOGIN_SUCCESSFUL_MESSAGE = "Login successful";
     public static final String MSG_STOCK_DATA_RETRIEVED = "Stock data retrieved successfully for index -> ";
+    public static final String MSG_STOCK_HISTORY_RETRIEVED = "Stock history retrieved successfully for symbol -> ";
+    public static final String MSG_TICK_SYMBOLS_RETRIEVED = "Tick store symbols retrieved successfully";
+    public static final String MSG_STREAM_TOKEN_ISSUED = "Stream token issued";
 
     /**
      * Error Messages
@@ -69,6 +83,11 @@ public class AppConstants {
     public static final String UNEXPECTED_ERROR = "An unexpected error occurred.";
     public static final String ERROR_MESSAGE_ACCOUNT_LOCKED = "Account locked. Please contact administrator";
     public static final String ERROR_MESSAGE_INACTIVE_ACCOUNT = "Account is inactive. Please contact administrator";
+    public static final String ERROR_MESSAGE_OTP_INVALID = "Invalid OTP.";
+    public static final String ERROR_MESSAGE_OTP_EXPIRED = "OTP has expired. Please request a new OTP.";
+    public static final String ERROR_MESSAGE_OTP_ATTEMPTS = "Too many invalid OTP attempts. Please try again later.";
+    public static final String ERROR_MESSAGE_OTP_SEND_FAILED = "Could not send the OTP right now. Please try again shortly.";
+    public static final String ERROR_MESSAGE_OTP_COOLDOWN = "An OTP was sent recently. Please wait before requesting another.";
 
     /**
      * Logging Messages
@@ -77,7 +96,14 @@ public class AppConstants {
     public static final String FLOW_END = "*************** END *************** ";
     public static final String METHOD_GET_STOCK_DATA = "getStockData() : ";
     public static final String METHOD_INVOKE_STOCK_DATA = "invokeStockData() : ";
+    public static final String METHOD_STREAM_STOCK_DATA = "streamStockData() : ";
+    public static final String METHOD_GET_STOCK_HISTORY = "getStockHistory() : ";
+    public static final String METHOD_STREAM_TICKS = "streamTicks() : ";
+    public static final String METHOD_STREAM_RAW_TICKS = "streamRawTicks() : ";
     public static final String LOG_REQUEST_FETCH_STOCK_DATA = "Received request to fetch stock data for index: {}";
+    public static final String LOG_REQUEST_FETCH_STOCK_HISTORY = "Received request to fetch {} history of {} in index: {}";
+    public static final String LOG_REQUEST_FETCH_TICKS = "Received request to stream ticks of {} in index: {} from {} to {}";
+    public static final String LOG_REQUEST_FETCH_RAW_TICKS = "Received request to stream raw ticks of index: {} from {} to {}";
     public static final String LOG_STOCK_DATA_RETRIEVED = "Stock data retrieved successfully for index: {}";
     public static final String LOG_STOCK_EXCEPTION = "StockException occurred: {}";
     public static final String LOG_EXTERNAL_API_ERROR = "External API error: {} - Response: {}";
@@ -112,5 +138,8 @@ public class AppConstants {
     public static final String WEBCLIENT_PRAGMA = "no-cache";
     public static final String WEBCLIENT_CONNECTION = "keep-alive";
     public static final String WEBCLIENT_HOST = "www.nseindia.com";
+    public static final String HTTP_POOL_NSE = "nse";
+    public static final String EMAIL_TEMPLATE_RESET_OTP = "reset-otp";
+    public static final String EMAIL_TEMPLATE_LOGIN_OTP = "login-otp";
 
 }
\ No newline at end of file
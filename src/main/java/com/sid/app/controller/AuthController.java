@@ -9,6 +9,7 @@ import com.sid.app.model.ForgotPasswordResetRequest;
 import com.sid.app.model.ResponseDTO;
 import com.sid.app.service.AuthService;
 import com.sid.app.utils.ApplicationUtils;
+import com.sid.app.utils.BlockingExecutor;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @RestController
 @Slf4j
@@ -27,38 +29,44 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
-    @PostMapping(value = AppConstants.USER_REGISTER_ENDPOINT)
-    public ResponseEntity<AuthResponse> register(@RequestBody RegisterRequest request) {
+    @Autowired
+    private BlockingExecutor blockingExecutor;
 
-        log.info("register() : request - > {}", ApplicationUtils.getJSONString(request));
-        log.info("register() : Registering user with email: {} and mobile: {}", request.getEmail(), request.getMobileNumber());
-        AuthResponse response = authService.register(request);
-        log.info("register() : response - > {}", ApplicationUtils.getJSONString(response));
-        log.info("register() : User registered successfully: {}", request.getEmail());
-        return ResponseEntity.ok(response);
+    @PostMapping(value = AppConstants.USER_REGISTER_ENDPOINT)
+    public Mono<ResponseEntity<AuthResponse>> register(@RequestBody RegisterRequest request) {
+        return blockingExecutor.execute(() -> {
+            log.info("register() : request - > {}", ApplicationUtils.getJSONString(request));
+            log.info("register() : Registering user with email: {} and mobile: {}", request.getEmail(), request.getMobileNumber());
+            AuthResponse response = authService.register(request);
+            log.info("register() : response - > {}", ApplicationUtils.getJSONString(response));
+            log.info("register() : User registered successfully: {}", request.getEmail());
+            return ResponseEntity.ok(response);
+        });
     }
 
     @PostMapping(value = AppConstants.USER_LOGIN_ENDPOINT)
-    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request) {
-        log.info("login() : request -> {}", ApplicationUtils.getJSONString(request));
-        log.info("Login attempt for user: {}", request.getEmail());
+    public Mono<ResponseEntity<AuthResponse>> login(@RequestBody LoginRequest request) {
+        return blockingExecutor.execute(() -> {
+            log.info("login() : request -> {}", ApplicationUtils.getJSONString(request));
+            log.info("Login attempt for user: {}", request.getEmail());
 
-        AuthResponse response = authService.login(request);
+            AuthResponse response = authService.login(request);
 
-        log.info("login() : response -> {}", ApplicationUtils.getJSONString(response));
+            log.info("login() : response -> {}", ApplicationUtils.getJSONString(response));
 
-        if ("SUCCESS".equals(response.getStatus())) {
-            log.info("login() : Login successful for user: {}. Last login: {}",
-                    request.getEmail(), response.getLastLoginTime());
-            return ResponseEntity.ok(response);
-        } else {
-            HttpStatus status = response.getAccountLocked() != null && response.getAccountLocked()
-                    ? HttpStatus.FORBIDDEN // 403 for locked accounts
-                    : HttpStatus.UNAUTHORIZED; // 401 for other failures
-            log.warn("login() : Login failed for user: {} - Reason: {}",
-                    request.getEmail(), response.getMessage());
-            return ResponseEntity.status(status).body(response);
-        }
+            if ("SUCCESS".equals(response.getStatus())) {
+                log.info("login() : Login successful for user: {}. Last login: {}",
+                        request.getEmail(), response.getLastLoginTime());
+                return ResponseEntity.ok(response);
+            } else {
+                HttpStatus status = response.getAccountLocked() != null && response.getAccountLocked()
+                        ? HttpStatus.FORBIDDEN // 403 for locked accounts
+                        : HttpStatus.UNAUTHORIZED; // 401 for other failures
+                log.warn("login() : Login failed for user: {} - Reason: {}",
+                        request.getEmail(), response.getMessage());
+                return ResponseEntity.status(status).body(response);
+            }
+        });
     }
 
     /**
@@ -68,9 +76,11 @@ public class AuthController {
      * @return ResponseEntity<ResponseDTO < Void>>
      */
     @PostMapping(AppConstants.FORGOT_PASSWORD_REQUEST_OTP_ENDPOINT)
-    public ResponseEntity<ResponseDTO<Void>> requestOtp(@Valid @RequestBody ForgotPasswordOtpRequest request) {
-        log.info("Received OTP request for email: {}", request.getEmail());
-        return authService.sendOtpForPasswordReset(request.getEmail());
+    public Mono<ResponseEntity<ResponseDTO<Void>>> requestOtp(@Valid @RequestBody ForgotPasswordOtpRequest request) {
+        return blockingExecutor.execute(() -> {
+            log.info("Received OTP request for email: {}", request.getEmail());
+            return authService.sendOtpForPasswordReset(request.getEmail());
+        });
     }
 
     /**
@@ -80,21 +90,27 @@ public class AuthController {
      * @return ResponseEntity<ResponseDTO < Void>>
      */
     @PostMapping(AppConstants.FORGOT_PASSWORD_RESET_ENDPOINT)
-    public ResponseEntity<ResponseDTO<Void>> resetPassword(@Valid @RequestBody ForgotPasswordResetRequest request) {
-        log.info("Received password reset request for email: {}", request.getEmail());
-        return authService.resetPassword(request);
+    public Mono<ResponseEntity<ResponseDTO<Void>>> resetPassword(@Valid @RequestBody ForgotPasswordResetRequest request) {
+        return blockingExecutor.execute(() -> {
+            log.info("Received password reset request for email: {}", request.getEmail());
+            return authService.resetPassword(request);
+        });
     }
 
     @PostMapping(AppConstants.LOGIN_REQUEST_OTP_ENDPOINT)
-    public ResponseEntity<ResponseDTO<Void>> requestLoginOtp(@RequestBody LoginRequest request) {
-        log.info("Received login OTP request for email: {}", request.getEmail());
-        return authService.sendOtpForLogin(request.getEmail());
+    public Mono<ResponseEntity<ResponseDTO<Void>>> requestLoginOtp(@RequestBody LoginRequest request) {
+        return blockingExecutor.execute(() -> {
+            log.info("Received login OTP request for email: {}", request.getEmail());
+            return authService.sendOtpForLogin(request.getEmail());
+        });
     }
 
     @PostMapping(AppConstants.VERIFY_OTP_ENDPOINT)
-    public ResponseEntity<AuthResponse> verifyOtp(@Valid @RequestBody ForgotPasswordOtpRequest request) {
-        log.info("Verifying OTP for email: {}", request.getEmail());
-        return authService.verifyOtp(request.getEmail(), request.getOtp());
+    public Mono<ResponseEntity<AuthResponse>> verifyOtp(@Valid @RequestBody ForgotPasswordOtpRequest request) {
+        return blockingExecutor.execute(() -> {
+            log.info("Verifying OTP for email: {}", request.getEmail());
+            return authService.verifyOtp(request.getEmail(), request.getOtp());
+        });
     }
 
 }
\ No newline at end of file
@@ -1,18 +1,29 @@
 package com.sid.app.controller;
 
 import com.sid.app.constants.AppConstants;
+import com.sid.app.model.BulkOperationResult;
+import com.sid.app.model.CursorPage;
+import com.sid.app.model.FuelAnalyticsDTO;
 import com.sid.app.model.FuelExpenseDTO;
 import com.sid.app.model.ResponseDTO;
+import com.sid.app.service.ExportService;
 import com.sid.app.service.FuelExpenseService;
+import com.sid.app.service.ReactiveReadService;
 import com.sid.app.utils.ApplicationUtils;
+import com.sid.app.utils.BlockingExecutor;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -29,6 +40,15 @@ public class FuelExpenseController {
     @Autowired
     private FuelExpenseService fuelExpenseService;
 
+    @Autowired
+    private BlockingExecutor blockingExecutor;
+
+    @Autowired
+    private ReactiveReadService reactiveReadService;
+
+    @Autowired
+    private ExportService exportService;
+
     /**
      * Add a new fuel expense record.
      *
@@ -36,45 +56,83 @@ public class FuelExpenseController {
      * @return Response with added fuel expense
      */
     @PostMapping(AppConstants.VEHICLE_FUEL_EXPENSE_ENDPOINT)
-    public ResponseEntity<ResponseDTO<FuelExpenseDTO>> addFuelExpense(@RequestBody FuelExpenseDTO fuelExpenseDTO) {
-        log.info("Adding new fuel expense: {}", fuelExpenseDTO);
-        try {
-            FuelExpenseDTO savedExpense = fuelExpenseService.saveFuelExpense(fuelExpenseDTO);
-            return ResponseEntity.ok(ApplicationUtils.buildResponse(savedExpense, "Fuel expense added successfully", "SUCCESS"));
-        } catch (EntityExistsException e) {
-            log.error("Fuel expense already exists: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        } catch (Exception e) {
-            log.error("Error adding fuel expense: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        }
+    public Mono<ResponseEntity<ResponseDTO<FuelExpenseDTO>>> addFuelExpense(@RequestBody FuelExpenseDTO fuelExpenseDTO) {
+        return blockingExecutor.execute(() -> {
+            log.info("Adding new fuel expense: {}", fuelExpenseDTO);
+            try {
+                FuelExpenseDTO savedExpense = fuelExpenseService.saveFuelExpense(fuelExpenseDTO);
+                return ResponseEntity.ok(ApplicationUtils.buildResponse(savedExpense, "Fuel expense added successfully", "SUCCESS"));
+            } catch (EntityExistsException e) {
+                log.error("Fuel expense already exists: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            } catch (Exception e) {
+                log.error("Error adding fuel expense: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            }
+        });
     }
 
     @PostMapping(AppConstants.VEHICLE_FUEL_BULK_EXPENSE_ENDPOINT)
-    public ResponseEntity<ResponseDTO<List<FuelExpenseDTO>>> addFuelExpenses(@RequestBody List<FuelExpenseDTO> fuelExpenseDTOList) {
-        log.info("Adding multiple fuel expenses: {}", fuelExpenseDTOList);
-        try {
-            List<FuelExpenseDTO> savedExpenses = fuelExpenseService.saveFuelExpenses(fuelExpenseDTOList);
-            return ResponseEntity.ok(ApplicationUtils.buildResponse(savedExpenses, "Fuel expenses added successfully", "SUCCESS"));
-        } catch (EntityNotFoundException e) {
-            log.error("Error: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        } catch (Exception e) {
-            log.error("Error adding fuel expenses: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        }
+    public Mono<ResponseEntity<ResponseDTO<List<FuelExpenseDTO>>>> addFuelExpenses(@RequestBody List<FuelExpenseDTO> fuelExpenseDTOList) {
+        return blockingExecutor.execute(() -> {
+            log.info("Adding multiple fuel expenses: {}", fuelExpenseDTOList);
+            try {
+                List<FuelExpenseDTO> savedExpenses = fuelExpenseService.saveFuelExpenses(fuelExpenseDTOList);
+                return ResponseEntity.ok(ApplicationUtils.buildResponse(savedExpenses, "Fuel expenses added successfully", "SUCCESS"));
+            } catch (EntityNotFoundException e) {
+                log.error("Error: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            } catch (Exception e) {
+                log.error("Error adding fuel expenses: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            }
+        });
     }
 
     /**
-     * Retrieve all fuel expenses.
+     * Bulk import of fuel expenses. Valid rows are saved in JDBC batches; invalid rows are reported
+     * by their position in the request instead of failing the whole import.
      *
-     * @return List of fuel expenses
+     * @param fuelExpenseDTOList Fuel expenses to import
+     * @return Import counts and rejected rows
+     */
+    @PostMapping(AppConstants.VEHICLE_FUEL_EXPENSE_IMPORT_ENDPOINT)
+    public Mono<ResponseEntity<ResponseDTO<BulkOperationResult<FuelExpenseDTO>>>> importFuelExpenses(@RequestBody List<FuelExpenseDTO> fuelExpenseDTOList) {
+        return blockingExecutor.execute(() -> {
+            log.info("Importing {} fuel expenses", fuelExpenseDTOList.size());
+            try {
+                BulkOperationResult<FuelExpenseDTO> result = fuelExpenseService.importFuelExpenses(fuelExpenseDTOList);
+                String status = result.getFailureCount() == 0 ? "SUCCESS" : "PARTIAL_SUCCESS";
+                String message = result.getSuccessCount() + " of " + result.getTotalCount() + " fuel expenses imported";
+                return ResponseEntity.ok(ApplicationUtils.buildResponse(result, message, status));
+            } catch (Exception e) {
+                log.error("Error importing fuel expenses: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            }
+        });
+    }
+
+    /**
+     * Retrieve fuel expenses, one page at a time.
+     *
+     * @param after Cursor from the previous page (optional)
+     * @param limit Page size (optional)
+     * @return Page of fuel expenses
      */
     @GetMapping(AppConstants.VEHICLE_ALL_FUEL_EXPENSE_ENDPOINT)
-    public ResponseEntity<ResponseDTO<List<FuelExpenseDTO>>> getAllFuelExpenses() {
-        log.info("Fetching all fuel expenses");
-        List<FuelExpenseDTO> fuelExpenses = fuelExpenseService.getAllFuelExpenses();
-        return ResponseEntity.ok(ApplicationUtils.buildResponse(fuelExpenses, "Fuel expenses retrieved successfully", "SUCCESS"));
+    public Mono<ResponseEntity<ResponseDTO<List<FuelExpenseDTO>>>> getAllFuelExpenses(@RequestParam(value = "after", required = false) String after,
+                                                                                   @RequestParam(value = "limit", required = false) Integer limit) {
+        return blockingExecutor.execute(() -> {
+            log.info("Fetching fuel expenses after cursor: {} with limit: {}", after, limit);
+            try {
+                CursorPage<FuelExpenseDTO> fuelExpenses = fuelExpenseService.getAllFuelExpenses(after, limit);
+                return ResponseEntity.ok(ApplicationUtils.buildPageResponse(fuelExpenses, "Fuel expenses retrieved successfully", "SUCCESS"));
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid pagination request: {}", e.getMessage());
+                return ResponseEntity.badRequest()
+                        .body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            }
+        });
     }
 
     /**
@@ -85,34 +143,87 @@ public class FuelExpenseController {
      * @return List of fuel expenses matching the criteria
      */
     @GetMapping(AppConstants.VEHICLE_FUEL_EXPENSE_ENDPOINT)
-    public ResponseEntity<ResponseDTO<List<FuelExpenseDTO>>> getFuelExpenses(@RequestParam(value = "vehicleId", required = false) Long vehicleId,
+    public Mono<ResponseEntity<ResponseDTO<List<FuelExpenseDTO>>>> getFuelExpenses(@RequestParam(value = "vehicleId", required = false) Long vehicleId,
                                                                              @RequestParam(value = "registrationNumber", required = false) String registrationNumber) {
+        return blockingExecutor.execute(() -> {
+            log.info("Received request to fetch fuel expenses for vehicleId: {} and registrationNumber: {}", vehicleId, registrationNumber);
+
+            if (vehicleId == null && registrationNumber == null) {
+                log.warn("Validation failed: Both vehicleId and registrationNumber are missing.");
+                return ResponseEntity.badRequest()
+                        .body(ApplicationUtils.buildResponse(null, "Either vehicleId or registrationNumber must be provided", "ERROR"));
+            }
+
+            try {
+                List<FuelExpenseDTO> fuelExpenses = fuelExpenseService.getFuelExpenses(vehicleId, registrationNumber);
 
-        log.info("Received request to fetch fuel expenses for vehicleId: {} and registrationNumber: {}", vehicleId, registrationNumber);
+                if (fuelExpenses.isEmpty()) {
+                    log.warn("No fuel expenses found for vehicleId: {} and registrationNumber: {}", vehicleId, registrationNumber);
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(ApplicationUtils.buildResponse(null, "No fuel expenses found", "ERROR"));
+                }
 
-        if (vehicleId == null && registrationNumber == null) {
-            log.warn("Validation failed: Both vehicleId and registrationNumber are missing.");
-            return ResponseEntity.badRequest()
-                    .body(ApplicationUtils.buildResponse(null, "Either vehicleId or registrationNumber must be provided", "ERROR"));
-        }
+                log.info("Successfully retrieved {} fuel expenses", fuelExpenses.size());
+                return ResponseEntity.ok(ApplicationUtils.buildResponse(fuelExpenses, "Fuel expenses retrieved successfully", "SUCCESS"));
 
-        try {
-            List<FuelExpenseDTO> fuelExpenses = fuelExpenseService.getFuelExpenses(vehicleId, registrationNumber);
+            } catch (IllegalArgumentException ex) {
+                log.error("Validation error: {}", ex.getMessage());
+                return ResponseEntity.badRequest()
+                        .body(ApplicationUtils.buildResponse(null, ex.getMessage(), "ERROR"));
+            }
+        });
+    }
 
-            if (fuelExpenses.isEmpty()) {
-                log.warn("No fuel expenses found for vehicleId: {} and registrationNumber: {}", vehicleId, registrationNumber);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(ApplicationUtils.buildResponse(null, "No fuel expenses found", "ERROR"));
+    /**
+     * Fuel analytics of a vehicle: litres, amount, average rate, distance, km/l and cost/km per period.
+     *
+     * @param vehicleId Vehicle ID
+     * @param period    week, month, quarter or year (defaults to month)
+     * @param from      First fill date to include (optional)
+     * @param to        Last fill date to include (optional)
+     * @return One row per period with fills
+     */
+    @GetMapping(AppConstants.VEHICLE_FUEL_EXPENSE_ANALYTICS_ENDPOINT)
+    public Mono<ResponseEntity<ResponseDTO<List<FuelAnalyticsDTO>>>> getFuelAnalytics(@RequestParam("vehicleId") Long vehicleId,
+                                                                                 @RequestParam(value = "period", required = false) String period,
+                                                                                 @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                                 @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return blockingExecutor.execute(() -> {
+            log.info("Received request for fuel analytics of vehicleId: {} by {}", vehicleId, period);
+            try {
+                List<FuelAnalyticsDTO> analytics = fuelExpenseService.getFuelAnalytics(vehicleId, period, from, to);
+                return ResponseEntity.ok(ApplicationUtils.buildResponse(analytics, "Fuel analytics retrieved successfully", "SUCCESS"));
+            } catch (IllegalArgumentException ex) {
+                log.error("Validation error: {}", ex.getMessage());
+                return ResponseEntity.badRequest().body(ApplicationUtils.buildResponse(null, ex.getMessage(), "ERROR"));
+            } catch (EntityNotFoundException ex) {
+                log.warn("Fuel analytics failed: {}", ex.getMessage());
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApplicationUtils.buildResponse(null, ex.getMessage(), "ERROR"));
             }
+        });
+    }
 
-            log.info("Successfully retrieved {} fuel expenses", fuelExpenses.size());
-            return ResponseEntity.ok(ApplicationUtils.buildResponse(fuelExpenses, "Fuel expenses retrieved successfully", "SUCCESS"));
+    /**
+     * Stream fuel expenses of a vehicle as newline-delimited JSON.
+     *
+     * @param vehicleId Vehicle ID
+     * @return Flux of fuel expenses
+     */
+    @GetMapping(value = AppConstants.VEHICLE_FUEL_EXPENSE_ENDPOINT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<FuelExpenseDTO> streamFuelExpenses(@RequestParam("vehicleId") Long vehicleId) {
+        log.info("Streaming fuel expenses for vehicleId: {}", vehicleId);
+        return reactiveReadService.streamFuelExpensesByVehicleId(vehicleId);
+    }
 
-        } catch (IllegalArgumentException ex) {
-            log.error("Validation error: {}", ex.getMessage());
-            return ResponseEntity.badRequest()
-                    .body(ApplicationUtils.buildResponse(null, ex.getMessage(), "ERROR"));
-        }
+    /**
+     * Export the full fuel expense history as newline-delimited JSON, streamed row by row.
+     *
+     * @param vehicleId Vehicle ID (optional, exports every vehicle when absent)
+     * @return Flux of fuel expenses
+     */
+    @GetMapping(value = AppConstants.VEHICLE_FUEL_EXPENSE_EXPORT_ENDPOINT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<FuelExpenseDTO> exportFuelExpenses(@RequestParam(value = "vehicleId", required = false) Long vehicleId) {
+        return exportService.exportFuelExpenses(vehicleId);
     }
 
     /**
@@ -122,18 +233,20 @@ public class FuelExpenseController {
      * @return Response entity
      */
     @DeleteMapping(value = AppConstants.VEHICLE_FUEL_EXPENSE_ENDPOINT, params = "fuelExpenseId")
-    public ResponseEntity<ResponseDTO<String>> deleteFuelExpense(@RequestParam("fuelExpenseId") Long id) {
-        log.info("Deleting fuel expense by ID: {}", id);
-        try {
-            fuelExpenseService.deleteFuelExpense(id);
-            return ResponseEntity.ok(ApplicationUtils.buildResponse("Fuel expense deleted successfully", "Operation successful", "SUCCESS"));
-        } catch (EntityNotFoundException e) {
-            log.error("Fuel expense not found: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        } catch (Exception e) {
-            log.error("Error deleting fuel expense: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        }
+    public Mono<ResponseEntity<ResponseDTO<String>>> deleteFuelExpense(@RequestParam("fuelExpenseId") Long id) {
+        return blockingExecutor.execute(() -> {
+            log.info("Deleting fuel expense by ID: {}", id);
+            try {
+                fuelExpenseService.deleteFuelExpense(id);
+                return ResponseEntity.ok(ApplicationUtils.buildResponse("Fuel expense deleted successfully", "Operation successful", "SUCCESS"));
+            } catch (EntityNotFoundException e) {
+                log.error("Fuel expense not found: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            } catch (Exception e) {
+                log.error("Error deleting fuel expense: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            }
+        });
     }
 
 }
\ No newline at end of file
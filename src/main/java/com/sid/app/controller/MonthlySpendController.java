@@ -0,0 +1,64 @@
+package com.sid.app.controller;
+
+import com.sid.app.constants.AppConstants;
+import com.sid.app.model.MonthlySpendDTO;
+import com.sid.app.model.ResponseDTO;
+import com.sid.app.service.MonthlySpendService;
+import com.sid.app.utils.ApplicationUtils;
+import com.sid.app.utils.BlockingExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Controller serving monthly fuel and servicing spend for dashboards, read from the monthly rollup.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@RestController
+@Slf4j
+@CrossOrigin
+public class MonthlySpendController {
+
+    @Autowired
+    private MonthlySpendService monthlySpendService;
+
+    @Autowired
+    private BlockingExecutor blockingExecutor;
+
+    /**
+     * Monthly spend of a vehicle, or of all vehicles of a user.
+     *
+     * @param vehicleId Vehicle ID (either this or userId)
+     * @param userId    User ID (either this or vehicleId)
+     * @param from      First month, yyyy-MM (optional)
+     * @param to        Last month, yyyy-MM (optional)
+     * @return One entry per month with any spend
+     */
+    @GetMapping(AppConstants.VEHICLE_MONTHLY_SPEND_ENDPOINT)
+    public Mono<ResponseEntity<ResponseDTO<List<MonthlySpendDTO>>>> getMonthlySpend(@RequestParam(value = "vehicleId", required = false) Long vehicleId,
+                                                                              @RequestParam(value = "userId", required = false) Long userId,
+                                                                              @RequestParam(value = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                                                              @RequestParam(value = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return blockingExecutor.execute(() -> {
+            log.info("getMonthlySpend() : Received request for vehicleId: {}, userId: {}", vehicleId, userId);
+            try {
+                List<MonthlySpendDTO> monthlySpend = monthlySpendService.getMonthlySpend(vehicleId, userId, from, to);
+                return ResponseEntity.ok(ApplicationUtils.buildResponse(monthlySpend, "Monthly spend retrieved successfully", "SUCCESS"));
+            } catch (IllegalArgumentException ex) {
+                log.error("getMonthlySpend() : Validation error: {}", ex.getMessage());
+                return ResponseEntity.badRequest().body(ApplicationUtils.buildResponse(null, ex.getMessage(), "ERROR"));
+            }
+        });
+    }
+
+}
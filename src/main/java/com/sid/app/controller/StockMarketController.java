@@ -1,21 +1,39 @@
 package com.sid.app.controller;
 
+import com.sid.app.auth.JwtUtil;
+import com.sid.app.config.JwtProperties;
+import com.sid.app.config.StockStreamProperties;
 import com.sid.app.constants.AppConstants;
 import com.sid.app.exception.StockException;
 import com.sid.app.model.ResponseDTO;
+import com.sid.app.model.stock.IndexUpdateDTO;
 import com.sid.app.model.stock.StockResponseDTO;
+import com.sid.app.model.stock.SymbolHistoryDTO;
+import com.sid.app.model.stock.TickDTO;
+import com.sid.app.service.IndexHistoryService;
+import com.sid.app.service.IndexTickStore;
 import com.sid.app.service.StockMarketService;
+import com.sid.app.service.StockStreamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.security.Principal;
+import java.util.List;
+
 /**
  * Controller for managing stock market data retrieval from NSE.
  * <p>
@@ -28,6 +46,12 @@ import reactor.core.publisher.Mono;
 public class StockMarketController {
 
     private final StockMarketService stockService;
+    private final StockStreamService stockStreamService;
+    private final StockStreamProperties streamProperties;
+    private final IndexHistoryService indexHistoryService;
+    private final IndexTickStore tickStore;
+    private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
 
     /**
      * Retrieves stock market data from NSE for the given index.
@@ -75,6 +99,139 @@ public class StockMarketController {
                 .doFinally(signalType -> log.info(AppConstants.METHOD_GET_STOCK_DATA + AppConstants.FLOW_END));
     }
 
+    /**
+     * Issues a short-lived token for {@link #streamStockData}. Browsers cannot send an {@code Authorization}
+     * header with {@code EventSource}, so they call this with their bearer token and then open
+     * {@code stream?index=...&access_token=<token>}. The token is only checked when the stream connects;
+     * fetch a new one before reconnecting.
+     *
+     * @param principal The authenticated user.
+     * @return ResponseEntity containing the stream token.
+     */
+    @PostMapping(AppConstants.STOCK_NIFTY_STOCK_STREAM_TOKEN_ENDPOINT)
+    public ResponseEntity<ResponseDTO<String>> getStreamToken(Principal principal) {
+        return ResponseEntity.ok(ResponseDTO.<String>builder()
+                .status(AppConstants.STATUS_SUCCESS)
+                .message(AppConstants.MSG_STREAM_TOKEN_ISSUED)
+                .data(jwtUtil.generateStreamToken(principal.getName(), jwtProperties.getStreamTokenTtl()))
+                .build());
+    }
+
+    /**
+     * Streams live updates of an index as server-sent events: a {@code snapshot} event with every symbol,
+     * then {@code diff} events with only the changed symbols. All viewers of an index share one NSE poller.
+     * Authenticates with either a bearer header or the {@code access_token} query parameter holding a token
+     * from {@link #getStreamToken}.
+     *
+     * @param index The stock index (e.g., "NIFTY 50").
+     * @return Flux of server-sent events, interleaved with keep-alive comments.
+     */
+    @GetMapping(value = AppConstants.STOCK_NIFTY_STOCK_STREAM_ENDPOINT, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<IndexUpdateDTO>> streamStockData(@RequestParam String index) {
+        log.info(AppConstants.METHOD_STREAM_STOCK_DATA + AppConstants.LOG_REQUEST_FETCH_STOCK_DATA, index);
+
+        Flux<ServerSentEvent<IndexUpdateDTO>> updates = stockStreamService.stream(index)
+                .map(update -> ServerSentEvent.<IndexUpdateDTO>builder()
+                        .id(Long.toString(update.getSequence()))
+                        .event(update.isSnapshot() ? "snapshot" : "diff")
+                        .data(update)
+                        .build());
+        Flux<ServerSentEvent<IndexUpdateDTO>> heartbeats = Flux.interval(streamProperties.getHeartbeat())
+                .map(tick -> ServerSentEvent.<IndexUpdateDTO>builder().comment("keep-alive").build());
+
+        return Flux.merge(updates, heartbeats)
+                .doFinally(signalType -> log.info(AppConstants.METHOD_STREAM_STOCK_DATA + AppConstants.FLOW_END));
+    }
+
+    /**
+     * Retrieves the intraday history of one field of one symbol, e.g. the pChange of INFY in NIFTY 50.
+     *
+     * @param index  The stock index (e.g., "NIFTY 50").
+     * @param symbol The symbol (e.g., "INFY").
+     * @param field  The numeric field (e.g., "pChange"); defaults to lastPrice.
+     * @return ResponseEntity containing parallel arrays of timestamps and values.
+     */
+    @GetMapping(AppConstants.STOCK_NIFTY_STOCK_HISTORY_ENDPOINT)
+    public ResponseEntity<ResponseDTO<SymbolHistoryDTO>> getStockHistory(@RequestParam String index,
+                                                                         @RequestParam String symbol,
+                                                                         @RequestParam(defaultValue = "lastPrice") String field) {
+        log.info(AppConstants.METHOD_GET_STOCK_HISTORY + AppConstants.LOG_REQUEST_FETCH_STOCK_HISTORY, field, symbol, index);
+        try {
+            SymbolHistoryDTO history = indexHistoryService.history(index, symbol, field);
+            return ResponseEntity.ok(ResponseDTO.<SymbolHistoryDTO>builder()
+                    .status(AppConstants.STATUS_SUCCESS)
+                    .message(AppConstants.MSG_STOCK_HISTORY_RETRIEVED + symbol)
+                    .data(history)
+                    .build());
+        } catch (IllegalArgumentException ex) {
+            log.warn(AppConstants.METHOD_GET_STOCK_HISTORY + "Invalid history request: {}", ex.getMessage());
+            return ResponseEntity.badRequest().body(ResponseDTO.<SymbolHistoryDTO>builder()
+                    .status(AppConstants.STATUS_FAILED)
+                    .message(ex.getMessage())
+                    .build());
+        }
+    }
+
+    /**
+     * Streams the stored ticks of one symbol as newline-delimited JSON, oldest first.
+     *
+     * @param index  The stock index (e.g., "NIFTY 50").
+     * @param symbol The symbol (e.g., "INFY").
+     * @param from   Start of the range, epoch millis (inclusive).
+     * @param to     End of the range, epoch millis (inclusive); defaults to now.
+     * @return ResponseEntity streaming the ticks, or 400 if the range is inverted.
+     */
+    @GetMapping(value = AppConstants.STOCK_TICKS_ENDPOINT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<TickDTO>> streamTicks(@RequestParam String index,
+                                                     @RequestParam String symbol,
+                                                     @RequestParam long from,
+                                                     @RequestParam(required = false) Long to) {
+        long end = to != null ? to : System.currentTimeMillis();
+        log.info(AppConstants.METHOD_STREAM_TICKS + AppConstants.LOG_REQUEST_FETCH_TICKS, symbol, index, from, end);
+        if (from > end) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(tickStore.scan(index, symbol, from, end));
+    }
+
+    /**
+     * Streams the raw tick records of all symbols of an index, straight from the memory-mapped day files.
+     * Each record is 40 bytes, big-endian: timestamp (long), symbol id (int), reserved (int),
+     * lastPrice (double), change (double), volume (long).
+     *
+     * @param index    The stock index (e.g., "NIFTY 50").
+     * @param from     Start of the range, epoch millis (inclusive).
+     * @param to       End of the range, epoch millis (inclusive); defaults to now.
+     * @param response The response, whose buffer factory wraps the mapped records without copying.
+     * @return ResponseEntity streaming the records, or 400 if the range is inverted.
+     */
+    @GetMapping(value = AppConstants.STOCK_TICKS_RAW_ENDPOINT, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Flux<DataBuffer>> streamRawTicks(@RequestParam String index,
+                                                           @RequestParam long from,
+                                                           @RequestParam(required = false) Long to,
+                                                           ServerHttpResponse response) {
+        long end = to != null ? to : System.currentTimeMillis();
+        log.info(AppConstants.METHOD_STREAM_RAW_TICKS + AppConstants.LOG_REQUEST_FETCH_RAW_TICKS, index, from, end);
+        if (from > end) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(tickStore.scanRaw(index, from, end, response.bufferFactory()));
+    }
+
+    /**
+     * Retrieves the symbol table of the tick store; the position of a symbol is its id in the raw records.
+     *
+     * @return ResponseEntity containing the symbols.
+     */
+    @GetMapping(AppConstants.STOCK_TICKS_SYMBOLS_ENDPOINT)
+    public ResponseEntity<ResponseDTO<List<String>>> getTickSymbols() {
+        return ResponseEntity.ok(ResponseDTO.<List<String>>builder()
+                .status(AppConstants.STATUS_SUCCESS)
+                .message(AppConstants.MSG_TICK_SYMBOLS_RETRIEVED)
+                .data(tickStore.symbols())
+                .build());
+    }
+
     /**
      * Creates an error response DTO.
      *
@@ -1,15 +1,19 @@
 package com.sid.app.controller;
 
 import com.sid.app.constants.AppConstants;
+import com.sid.app.model.CursorPage;
 import com.sid.app.model.ResponseDTO;
 import com.sid.app.model.UserDTO;
 import com.sid.app.service.UserService;
+import com.sid.app.utils.ApplicationUtils;
+import com.sid.app.utils.BlockingExecutor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 import java.util.List;
@@ -28,25 +32,40 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private BlockingExecutor blockingExecutor;
+
     /**
-     * Fetches all users from the system.
+     * Fetches users from the system, one page at a time.
      *
-     * @return ResponseEntity with a ResponseDTO containing a list of UserDTOs.
+     * @param after Cursor returned with the previous page (optional).
+     * @param limit Page size (optional).
+     * @return ResponseEntity with a ResponseDTO containing a page of UserDTOs.
      */
     @GetMapping(AppConstants.FETCH_ALL_USERS_ENDPOINT)
-    public ResponseEntity<ResponseDTO<List<UserDTO>>> getAllUsers() {
-        log.info("getAllUsers() : Received request to fetch all users.");
+    public Mono<ResponseEntity<ResponseDTO<List<UserDTO>>>> getAllUsers(@RequestParam(value = "after", required = false) String after,
+                                                                        @RequestParam(value = "limit", required = false) Integer limit) {
+        return blockingExecutor.execute(() -> {
+            log.info("getAllUsers() : Received request to fetch users after cursor: {} with limit: {}", after, limit);
 
-        List<UserDTO> users = userService.getAllUsers();
+            CursorPage<UserDTO> users;
+            try {
+                users = userService.getAllUsers(after, limit);
+            } catch (IllegalArgumentException e) {
+                log.warn("getAllUsers() : Invalid pagination request - {}", e.getMessage());
+                return ResponseEntity.badRequest()
+                        .body(new ResponseDTO<>("FAILURE", e.getMessage(), null));
+            }
 
-        if (users.isEmpty()) {
-            log.warn("getAllUsers() : No users found.");
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new ResponseDTO<>("FAILURE", "No users found in the system.", Collections.emptyList()));
-        }
+            if (users.getItems().isEmpty() && after == null) {
+                log.warn("getAllUsers() : No users found.");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ResponseDTO<>("FAILURE", "No users found in the system.", Collections.emptyList()));
+            }
 
-        log.info("getAllUsers() : Retrieved {} users.", users.size());
-        return ResponseEntity.ok(new ResponseDTO<>("SUCCESS", "Users retrieved successfully.", users));
+            log.info("getAllUsers() : Retrieved {} users.", users.getItems().size());
+            return ResponseEntity.ok(ApplicationUtils.buildPageResponse(users, "Users retrieved successfully.", "SUCCESS"));
+        });
     }
 
     /**
@@ -56,17 +75,19 @@ public class UserController {
      * @return ResponseEntity with a ResponseDTO containing the UserDTO.
      */
     @GetMapping(AppConstants.USER_ENDPOINT)
-    public ResponseEntity<ResponseDTO<UserDTO>> getUserById(@RequestParam("userId") Long userId) {
-        log.info("getUserById() : Received request to fetch user with ID: {}", userId);
-        try {
-            UserDTO user = userService.getUserById(userId);
-            log.info("getUserById() : User with ID {} retrieved successfully.", userId);
-            return ResponseEntity.ok(new ResponseDTO<>("SUCCESS", "User retrieved successfully.", user));
-        } catch (EntityNotFoundException e) {
-            log.warn("getUserById() : User with ID {} not found.", userId);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new ResponseDTO<>("FAILED", e.getMessage(), null));
-        }
+    public Mono<ResponseEntity<ResponseDTO<UserDTO>>> getUserById(@RequestParam("userId") Long userId) {
+        return blockingExecutor.execute(() -> {
+            log.info("getUserById() : Received request to fetch user with ID: {}", userId);
+            try {
+                UserDTO user = userService.getUserById(userId);
+                log.info("getUserById() : User with ID {} retrieved successfully.", userId);
+                return ResponseEntity.ok(new ResponseDTO<>("SUCCESS", "User retrieved successfully.", user));
+            } catch (EntityNotFoundException e) {
+                log.warn("getUserById() : User with ID {} not found.", userId);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ResponseDTO<>("FAILED", e.getMessage(), null));
+            }
+        });
     }
 
     /**
@@ -77,22 +98,24 @@ public class UserController {
      * @return ResponseEntity with a ResponseDTO indicating the update status.
      */
     @PutMapping(AppConstants.USER_ENDPOINT)
-    public ResponseEntity<ResponseDTO<UserDTO>> updateUser(@RequestParam("userId") Long userId,
+    public Mono<ResponseEntity<ResponseDTO<UserDTO>>> updateUser(@RequestParam("userId") Long userId,
                                                            @RequestBody UserDTO updatedUserDTO) {
-        log.info("updateUser() : Received request to update user with ID: {}", userId);
-        try {
-            UserDTO updatedUser = userService.updateUser(userId, updatedUserDTO);
-            log.info("updateUser() : User with ID {} updated successfully.", userId);
-            return ResponseEntity.ok(new ResponseDTO<>("SUCCESS", "User updated successfully.", updatedUser));
-        } catch (EntityNotFoundException e) {
-            log.warn("updateUser() : User with ID {} not found.", userId);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new ResponseDTO<>("FAILED", e.getMessage(), null));
-        } catch (IllegalArgumentException e) {
-            log.warn("updateUser() : Validation failed for user ID {}: {}", userId, e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(new ResponseDTO<>("FAILED", e.getMessage(), null));
-        }
+        return blockingExecutor.execute(() -> {
+            log.info("updateUser() : Received request to update user with ID: {}", userId);
+            try {
+                UserDTO updatedUser = userService.updateUser(userId, updatedUserDTO);
+                log.info("updateUser() : User with ID {} updated successfully.", userId);
+                return ResponseEntity.ok(new ResponseDTO<>("SUCCESS", "User updated successfully.", updatedUser));
+            } catch (EntityNotFoundException e) {
+                log.warn("updateUser() : User with ID {} not found.", userId);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ResponseDTO<>("FAILED", e.getMessage(), null));
+            } catch (IllegalArgumentException e) {
+                log.warn("updateUser() : Validation failed for user ID {}: {}", userId, e.getMessage());
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(new ResponseDTO<>("FAILED", e.getMessage(), null));
+            }
+        });
     }
 
     /**
@@ -102,17 +125,19 @@ public class UserController {
      * @return ResponseEntity with a ResponseDTO indicating the deletion status.
      */
     @DeleteMapping(AppConstants.USER_ENDPOINT)
-    public ResponseEntity<ResponseDTO<Void>> deleteUser(@RequestParam("userId") Long userId) {
-        log.info("deleteUser() : Received request to delete user with ID: {}", userId);
-        try {
-            userService.deleteUser(userId);
-            log.info("deleteUser() : User with ID {} deleted successfully.", userId);
-            return ResponseEntity.ok(new ResponseDTO<>("SUCCESS", "User deleted successfully.", null));
-        } catch (EntityNotFoundException e) {
-            log.warn("deleteUser() : User with ID {} not found.", userId);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new ResponseDTO<>("FAILED", e.getMessage(), null));
-        }
+    public Mono<ResponseEntity<ResponseDTO<Void>>> deleteUser(@RequestParam("userId") Long userId) {
+        return blockingExecutor.execute(() -> {
+            log.info("deleteUser() : Received request to delete user with ID: {}", userId);
+            try {
+                userService.deleteUser(userId);
+                log.info("deleteUser() : User with ID {} deleted successfully.", userId);
+                return ResponseEntity.ok(new ResponseDTO<>("SUCCESS", "User deleted successfully.", null));
+            } catch (EntityNotFoundException e) {
+                log.warn("deleteUser() : User with ID {} not found.", userId);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ResponseDTO<>("FAILED", e.getMessage(), null));
+            }
+        });
     }
 
 }
\ No newline at end of file
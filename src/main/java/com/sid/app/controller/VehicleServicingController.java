@@ -3,14 +3,20 @@ package com.sid.app.controller;
 import com.sid.app.constants.AppConstants;
 import com.sid.app.model.ResponseDTO;
 import com.sid.app.model.VehicleServicingDTO;
+import com.sid.app.service.ExportService;
+import com.sid.app.service.ReactiveReadService;
 import com.sid.app.service.VehicleServicingService;
 import com.sid.app.utils.ApplicationUtils;
+import com.sid.app.utils.BlockingExecutor;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -25,9 +31,16 @@ import java.util.List;
 public class VehicleServicingController {
 
     private final VehicleServicingService vehicleServicingService;
+    private final BlockingExecutor blockingExecutor;
+    private final ReactiveReadService reactiveReadService;
+    private final ExportService exportService;
 
-    public VehicleServicingController(VehicleServicingService vehicleServicingService) {
+    public VehicleServicingController(VehicleServicingService vehicleServicingService, BlockingExecutor blockingExecutor,
+                                      ReactiveReadService reactiveReadService, ExportService exportService) {
         this.vehicleServicingService = vehicleServicingService;
+        this.blockingExecutor = blockingExecutor;
+        this.reactiveReadService = reactiveReadService;
+        this.exportService = exportService;
     }
 
     /**
@@ -37,78 +50,106 @@ public class VehicleServicingController {
      * @return ResponseEntity containing the saved servicing record or an error message.
      */
     @PostMapping(AppConstants.VEHICLE_SERVICING_ENDPOINT)
-    public ResponseEntity<ResponseDTO<VehicleServicingDTO>> addVehicleServicing(
+    public Mono<ResponseEntity<ResponseDTO<VehicleServicingDTO>>> addVehicleServicing(
             @RequestBody VehicleServicingDTO vehicleServicingDTO) {
-        log.info("Adding new vehicle servicing: {}", vehicleServicingDTO);
-
-        try {
-            // Call the service layer to save the vehicle servicing and calculate next service due date
-            VehicleServicingDTO savedServicing = vehicleServicingService.saveVehicleServicing(vehicleServicingDTO);
-
-            // Return a successful response with the saved servicing data
-            log.info("Vehicle servicing added successfully: {}", savedServicing);
-            return ResponseEntity.ok(ApplicationUtils.buildResponse(savedServicing, "Vehicle servicing added successfully", "SUCCESS"));
-        } catch (EntityExistsException e) {
-            log.error("Vehicle servicing already exists: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        } catch (Exception e) {
-            log.error("Error adding vehicle servicing: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        }
+        return blockingExecutor.execute(() -> {
+            log.info("Adding new vehicle servicing: {}", vehicleServicingDTO);
+
+            try {
+                // Call the service layer to save the vehicle servicing and calculate next service due date
+                VehicleServicingDTO savedServicing = vehicleServicingService.saveVehicleServicing(vehicleServicingDTO);
+
+                // Return a successful response with the saved servicing data
+                log.info("Vehicle servicing added successfully: {}", savedServicing);
+                return ResponseEntity.ok(ApplicationUtils.buildResponse(savedServicing, "Vehicle servicing added successfully", "SUCCESS"));
+            } catch (EntityExistsException e) {
+                log.error("Vehicle servicing already exists: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            } catch (Exception e) {
+                log.error("Error adding vehicle servicing: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            }
+        });
     }
 
     @PostMapping(AppConstants.VEHICLE_SERVICE_BULK_ENDPOINT)
-    public ResponseEntity<ResponseDTO<List<VehicleServicingDTO>>> addVehicleServices(@RequestBody List<VehicleServicingDTO> vehicleServicingDTOList) {
-        log.info("Adding multiple vehicle servicing records: {}", vehicleServicingDTOList);
-        try {
-            List<VehicleServicingDTO> savedServicings = vehicleServicingService.saveVehicleServices(vehicleServicingDTOList);
-            return ResponseEntity.ok(ApplicationUtils.buildResponse(savedServicings, "Vehicle servicing records added successfully", "SUCCESS"));
-        } catch (EntityNotFoundException e) {
-            log.error("Error: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        } catch (Exception e) {
-            log.error("Error adding vehicle servicing records: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        }
+    public Mono<ResponseEntity<ResponseDTO<List<VehicleServicingDTO>>>> addVehicleServices(@RequestBody List<VehicleServicingDTO> vehicleServicingDTOList) {
+        return blockingExecutor.execute(() -> {
+            log.info("Adding multiple vehicle servicing records: {}", vehicleServicingDTOList);
+            try {
+                List<VehicleServicingDTO> savedServicings = vehicleServicingService.saveVehicleServices(vehicleServicingDTOList);
+                return ResponseEntity.ok(ApplicationUtils.buildResponse(savedServicings, "Vehicle servicing records added successfully", "SUCCESS"));
+            } catch (EntityNotFoundException e) {
+                log.error("Error: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            } catch (Exception e) {
+                log.error("Error adding vehicle servicing records: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            }
+        });
     }
 
     @GetMapping(AppConstants.VEHICLE_SERVICING_ENDPOINT)
-    public ResponseEntity<ResponseDTO<List<VehicleServicingDTO>>> getVehicleServices(@RequestParam(value = "vehicleId", required = false) Long vehicleId,
+    public Mono<ResponseEntity<ResponseDTO<List<VehicleServicingDTO>>>> getVehicleServices(@RequestParam(value = "vehicleId", required = false) Long vehicleId,
                                                                                      @RequestParam(value = "registrationNumber", required = false) String registrationNumber) {
+        return blockingExecutor.execute(() -> {
+            log.info("Received request to fetch vehicle services for vehicleId: {} and registrationNumber: {}", vehicleId, registrationNumber);
+
+            if (vehicleId == null && registrationNumber == null) {
+                log.warn("Validation failed: Both vehicleId and registrationNumber are missing.");
+                return ResponseEntity.badRequest()
+                        .body(ApplicationUtils.buildResponse(null, "Either vehicleId or registrationNumber must be provided", "ERROR"));
+            }
 
-        log.info("Received request to fetch vehicle services for vehicleId: {} and registrationNumber: {}", vehicleId, registrationNumber);
+            try {
+                List<VehicleServicingDTO> vehicleServices = vehicleServicingService.getVehicleServices(vehicleId, registrationNumber);
 
-        if (vehicleId == null && registrationNumber == null) {
-            log.warn("Validation failed: Both vehicleId and registrationNumber are missing.");
-            return ResponseEntity.badRequest()
-                    .body(ApplicationUtils.buildResponse(null, "Either vehicleId or registrationNumber must be provided", "ERROR"));
-        }
+                if (vehicleServices.isEmpty()) {
+                    log.warn("No vehicle services found for vehicleId: {} and registrationNumber: {}", vehicleId, registrationNumber);
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(ApplicationUtils.buildResponse(null, "No vehicle services found", "ERROR"));
+                }
 
-        try {
-            List<VehicleServicingDTO> vehicleServices = vehicleServicingService.getVehicleServices(vehicleId, registrationNumber);
+                log.info("Successfully retrieved {} vehicle services", vehicleServices.size());
+                return ResponseEntity.ok(ApplicationUtils.buildResponse(vehicleServices, "Vehicle services retrieved successfully", "SUCCESS"));
 
-            if (vehicleServices.isEmpty()) {
-                log.warn("No vehicle services found for vehicleId: {} and registrationNumber: {}", vehicleId, registrationNumber);
+            } catch (IllegalArgumentException ex) {
+                log.error("Validation error: {}", ex.getMessage());
+                return ResponseEntity.badRequest()
+                        .body(ApplicationUtils.buildResponse(null, ex.getMessage(), "ERROR"));
+            } catch (EntityNotFoundException ex) {
+                log.error("Error: {}", ex.getMessage());
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(ApplicationUtils.buildResponse(null, "No vehicle services found", "ERROR"));
+                        .body(ApplicationUtils.buildResponse(null, ex.getMessage(), "ERROR"));
+            } catch (Exception ex) {
+                log.error("Unexpected error: {}", ex.getMessage());
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(ApplicationUtils.buildResponse(null, "Internal server error", "ERROR"));
             }
+        });
+    }
 
-            log.info("Successfully retrieved {} vehicle services", vehicleServices.size());
-            return ResponseEntity.ok(ApplicationUtils.buildResponse(vehicleServices, "Vehicle services retrieved successfully", "SUCCESS"));
-
-        } catch (IllegalArgumentException ex) {
-            log.error("Validation error: {}", ex.getMessage());
-            return ResponseEntity.badRequest()
-                    .body(ApplicationUtils.buildResponse(null, ex.getMessage(), "ERROR"));
-        } catch (EntityNotFoundException ex) {
-            log.error("Error: {}", ex.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApplicationUtils.buildResponse(null, ex.getMessage(), "ERROR"));
-        } catch (Exception ex) {
-            log.error("Unexpected error: {}", ex.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApplicationUtils.buildResponse(null, "Internal server error", "ERROR"));
-        }
+    /**
+     * Streams the servicing records of a vehicle as newline-delimited JSON.
+     *
+     * @param vehicleId The ID of the vehicle.
+     * @return Flux of servicing records.
+     */
+    @GetMapping(value = AppConstants.VEHICLE_SERVICING_ENDPOINT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<VehicleServicingDTO> streamVehicleServices(@RequestParam("vehicleId") Long vehicleId) {
+        log.info("Streaming vehicle services for vehicleId: {}", vehicleId);
+        return reactiveReadService.streamVehicleServicesByVehicleId(vehicleId);
+    }
+
+    /**
+     * Exports the full servicing history as newline-delimited JSON, streamed row by row.
+     *
+     * @param vehicleId The ID of the vehicle (optional, exports every vehicle when absent).
+     * @return Flux of servicing records.
+     */
+    @GetMapping(value = AppConstants.VEHICLE_SERVICE_EXPORT_ENDPOINT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<VehicleServicingDTO> exportVehicleServices(@RequestParam(value = "vehicleId", required = false) Long vehicleId) {
+        return exportService.exportVehicleServices(vehicleId);
     }
 
     /**
@@ -118,21 +159,23 @@ public class VehicleServicingController {
      * @return Response entity
      */
     @DeleteMapping(value = AppConstants.VEHICLE_SERVICING_ENDPOINT, params = "vehicleServiceId")
-    public ResponseEntity<ResponseDTO<String>> deleteVehicleService(@RequestParam("vehicleServiceId") Long id) {
-        log.info("Deleting vehicle service by ID: {}", id);
-
-        try {
-            vehicleServicingService.deleteVehicleService(id);
-            return ResponseEntity.ok(ApplicationUtils.buildResponse("Vehicle service deleted successfully", "Operation successful", "SUCCESS"));
-        } catch (EntityNotFoundException e) {
-            log.error("Vehicle service not found: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        } catch (Exception e) {
-            log.error("Error deleting vehicle service: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
-        }
+    public Mono<ResponseEntity<ResponseDTO<String>>> deleteVehicleService(@RequestParam("vehicleServiceId") Long id) {
+        return blockingExecutor.execute(() -> {
+            log.info("Deleting vehicle service by ID: {}", id);
+
+            try {
+                vehicleServicingService.deleteVehicleService(id);
+                return ResponseEntity.ok(ApplicationUtils.buildResponse("Vehicle service deleted successfully", "Operation successful", "SUCCESS"));
+            } catch (EntityNotFoundException e) {
+                log.error("Vehicle service not found: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            } catch (Exception e) {
+                log.error("Error deleting vehicle service: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(ApplicationUtils.buildResponse(null, e.getMessage(), "ERROR"));
+            }
+        });
     }
 
 
@@ -24,7 +24,8 @@ import java.time.LocalDate;
 public class BankCard extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bank_cards_seq")
+    @SequenceGenerator(name = "bank_cards_seq", sequenceName = "bank_cards_seq", allocationSize = 50)
     @Column(name = "bank_card_id", nullable = false)
     private Long bankCardId;
 
@@ -17,7 +17,8 @@ import lombok.*;
 public class Credential extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credentials_seq")
+    @SequenceGenerator(name = "credentials_seq", sequenceName = "credentials_seq", allocationSize = 50)
     @Column(name = "credential_id", nullable = false)
     private Long credentialId;
 
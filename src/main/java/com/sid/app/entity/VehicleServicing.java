@@ -20,7 +20,8 @@ import java.time.LocalDate;
 public class VehicleServicing extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vehicle_service_seq")
+    @SequenceGenerator(name = "vehicle_service_seq", sequenceName = "vehicle_service_seq", allocationSize = 50)
     @Column(name = "servicing_id", nullable = false)
     private Long servicingId;
 
@@ -1,6 +1,7 @@
 package com.sid.app.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sid.app.model.enums.CardStatus;
 import com.sid.app.model.enums.CardType;
@@ -40,6 +41,7 @@ public class BankCardDTO {
     private String lastFourDigits; // Only last 4 digits for display
 
     @JsonProperty("cvv")
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Omitted from masked list views
     private String cvv; // Will be stored in encrypted format
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
@@ -51,6 +53,7 @@ public class BankCardDTO {
     private LocalDate validThruDate;
 
     @JsonProperty("cardPin")
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Omitted from masked list views
     private String cardPin;
 
     @JsonProperty("billingCycleDay")
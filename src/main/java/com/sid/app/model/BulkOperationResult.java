@@ -0,0 +1,50 @@
+package com.sid.app.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk write that accepts valid rows and reports the rejected ones.
+ *
+ * @param <T> The type of the saved items, when the operation returns them.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkOperationResult<T> {
+
+    @JsonProperty("totalCount")
+    private final int totalCount;
+
+    @JsonProperty("successCount")
+    private final int successCount;
+
+    @JsonProperty("failureCount")
+    private final int failureCount;
+
+    @JsonProperty("saved")
+    private final List<T> saved;
+
+    @JsonProperty("errors")
+    private final List<RowError> errors;
+
+    /**
+     * A rejected input row, identified by its position in the request.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+
+        @JsonProperty("index")
+        private final int index;
+
+        @JsonProperty("message")
+        private final String message;
+
+    }
+
+}
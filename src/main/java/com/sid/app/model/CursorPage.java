@@ -0,0 +1,26 @@
+package com.sid.app.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param <T> The type of the page items.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private final List<T> items;
+
+    /**
+     * Opaque cursor to pass as {@code after} for the next page, or {@code null} on the last page.
+     */
+    private final String nextCursor;
+
+    private final boolean hasMore;
+
+}
@@ -0,0 +1,55 @@
+package com.sid.app.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Fuel consumption and spend of one vehicle over one period.
+ * Distance-based figures are {@code null} when no fill in the period has a previous odometer reading.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FuelAnalyticsDTO {
+
+    @JsonProperty("vehicleId")
+    private Long vehicleId;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    @JsonProperty("periodStart")
+    private LocalDate periodStart;
+
+    @JsonProperty("fillCount")
+    private int fillCount;
+
+    @JsonProperty("litres")
+    private BigDecimal litres;
+
+    @JsonProperty("amount")
+    private BigDecimal amount;
+
+    @JsonProperty("averageRate")
+    private BigDecimal averageRate;
+
+    @JsonProperty("distanceKm")
+    private Long distanceKm;
+
+    @JsonProperty("kmPerLitre")
+    private BigDecimal kmPerLitre;
+
+    @JsonProperty("costPerKm")
+    private BigDecimal costPerKm;
+
+}
@@ -0,0 +1,53 @@
+package com.sid.app.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Fuel and servicing spend of one month, for a single vehicle or summed over a user's vehicles.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MonthlySpendDTO {
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM")
+    @JsonProperty("month")
+    private YearMonth month;
+
+    @JsonProperty("vehicleId")
+    private Long vehicleId;
+
+    @JsonProperty("fuelAmount")
+    private BigDecimal fuelAmount;
+
+    @JsonProperty("fuelLitres")
+    private BigDecimal fuelLitres;
+
+    @JsonProperty("fuelCount")
+    private int fuelCount;
+
+    @JsonProperty("serviceAmount")
+    private BigDecimal serviceAmount;
+
+    @JsonProperty("serviceCount")
+    private int serviceCount;
+
+    @JsonProperty("totalAmount")
+    private BigDecimal totalAmount;
+
+}
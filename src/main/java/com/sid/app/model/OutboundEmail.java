@@ -0,0 +1,23 @@
+package com.sid.app.model;
+
+/**
+ * An email waiting in the outbound mail queue, with the number of delivery attempts it has failed so far.
+ * Sensitive emails, such as OTPs, are only ever held in memory and never spilled to the database.
+ *
+ * @author Siddhant Patni
+ */
+public record OutboundEmail(String from, String to, String subject, String htmlBody, int attempts, boolean sensitive) {
+
+    public static OutboundEmail of(String from, String to, String subject, String htmlBody) {
+        return new OutboundEmail(from, to, subject, htmlBody, 0, false);
+    }
+
+    public OutboundEmail asSensitive() {
+        return new OutboundEmail(from, to, subject, htmlBody, attempts, true);
+    }
+
+    public OutboundEmail nextAttempt() {
+        return new OutboundEmail(from, to, subject, htmlBody, attempts + 1, sensitive);
+    }
+
+}
@@ -28,4 +28,17 @@ public class ResponseDTO<T> {
     @JsonProperty("data")
     private T data;
 
+    /**
+     * Cursor for the next page of a paginated listing; absent on the last page and on non-paginated responses.
+     */
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    @JsonProperty("hasMore")
+    private Boolean hasMore;
+
+    public ResponseDTO(String status, String message, T data) {
+        this(status, message, data, null, null);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.sid.app.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * A change to one vehicle's monthly spend rollup, produced when a fuel expense or servicing record
+ * is inserted (positive) or deleted (negated).
+ *
+ * @author Siddhant Patni
+ */
+public record SpendDelta(Long vehicleId, YearMonth month,
+                         BigDecimal fuelAmount, BigDecimal fuelLitres, int fuelCount,
+                         BigDecimal serviceAmount, int serviceCount) {
+
+    public static SpendDelta fuel(Long vehicleId, LocalDate filledDate, BigDecimal amount, BigDecimal litres) {
+        return new SpendDelta(vehicleId, YearMonth.from(filledDate), amount, litres, 1, BigDecimal.ZERO, 0);
+    }
+
+    public static SpendDelta service(Long vehicleId, LocalDate serviceDate, Double cost) {
+        return new SpendDelta(vehicleId, YearMonth.from(serviceDate), BigDecimal.ZERO, BigDecimal.ZERO, 0,
+                cost != null ? BigDecimal.valueOf(cost) : BigDecimal.ZERO, 1);
+    }
+
+    public SpendDelta negate() {
+        return new SpendDelta(vehicleId, month, fuelAmount.negate(), fuelLitres.negate(), -fuelCount,
+                serviceAmount.negate(), -serviceCount);
+    }
+
+    public SpendDelta plus(SpendDelta other) {
+        return new SpendDelta(vehicleId, month, fuelAmount.add(other.fuelAmount), fuelLitres.add(other.fuelLitres),
+                fuelCount + other.fuelCount, serviceAmount.add(other.serviceAmount), serviceCount + other.serviceCount);
+    }
+
+}
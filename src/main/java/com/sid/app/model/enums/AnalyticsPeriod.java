@@ -0,0 +1,13 @@
+package com.sid.app.model.enums;
+
+/**
+ * Bucket size of the fuel analytics. The lower-case name is the Postgres {@code date_trunc} field.
+ *
+ * @author Siddhant Patni
+ */
+public enum AnalyticsPeriod {
+    WEEK,
+    MONTH,
+    QUARTER,
+    YEAR
+}
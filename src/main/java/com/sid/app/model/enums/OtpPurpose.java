@@ -0,0 +1,12 @@
+package com.sid.app.model.enums;
+
+/**
+ * What an OTP was issued for. OTPs of different purposes are stored separately, so a login OTP
+ * cannot be used to reset a password.
+ *
+ * @author Siddhant Patni
+ */
+public enum OtpPurpose {
+    PASSWORD_RESET,
+    LOGIN
+}
@@ -0,0 +1,13 @@
+package com.sid.app.model.enums;
+
+/**
+ * Outcome of checking an OTP against the {@link com.sid.app.auth.OtpStore}.
+ *
+ * @author Siddhant Patni
+ */
+public enum OtpVerification {
+    VERIFIED,
+    INVALID,
+    EXPIRED,
+    TOO_MANY_ATTEMPTS
+}
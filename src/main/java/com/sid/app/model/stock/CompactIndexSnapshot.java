@@ -0,0 +1,112 @@
+package com.sid.app.model.stock;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Columnar, primitive-only copy of one NSE index snapshot, used for intraday history.
+ * <p>
+ * Rows are sorted by interned symbol id, each {@link StockField} is one {@code double[]} column and
+ * timestamps are epoch millis. A 50-symbol snapshot takes a few KB, against tens of KB for the
+ * {@link StockResponseDTO} it was built from (strings, chart paths, nested meta objects).
+ *
+ * @author Siddhant Patni
+ */
+public final class CompactIndexSnapshot {
+
+    private static final DateTimeFormatter NSE_TIMESTAMP = DateTimeFormatter.ofPattern("dd-MMM-yyyy HH:mm:ss", Locale.ENGLISH);
+    private static final ZoneId NSE_ZONE = ZoneId.of("Asia/Kolkata");
+    private static final StockField[] FIELDS = StockField.values();
+
+    private final long timestampMillis;
+    private final int[] symbolIds;
+    private final long[] lastUpdateMillis;
+    private final double[][] columns;
+
+    private CompactIndexSnapshot(long timestampMillis, int[] symbolIds, long[] lastUpdateMillis, double[][] columns) {
+        this.timestampMillis = timestampMillis;
+        this.symbolIds = symbolIds;
+        this.lastUpdateMillis = lastUpdateMillis;
+        this.columns = columns;
+    }
+
+    /**
+     * Builds a compact snapshot from an NSE response, interning its symbols into {@code dictionary}.
+     * If the NSE timestamp cannot be parsed, {@code fallbackMillis} is used.
+     */
+    public static CompactIndexSnapshot from(StockResponseDTO response, SymbolDictionary dictionary, long fallbackMillis) {
+        List<StockDataDTO> data = response.getData() != null ? response.getData() : List.of();
+        StockDataDTO[] rows = data.stream()
+                .filter(stock -> stock.getSymbol() != null)
+                .toArray(StockDataDTO[]::new);
+        int[] ids = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            ids[i] = dictionary.intern(rows[i].getSymbol());
+        }
+
+        Integer[] order = new Integer[rows.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> ids[i]));
+
+        int[] symbolIds = new int[rows.length];
+        long[] lastUpdateMillis = new long[rows.length];
+        double[][] columns = new double[FIELDS.length][rows.length];
+        for (int row = 0; row < rows.length; row++) {
+            StockDataDTO stock = rows[order[row]];
+            symbolIds[row] = ids[order[row]];
+            lastUpdateMillis[row] = parseMillis(stock.getLastUpdateTime(), 0L);
+            for (StockField field : FIELDS) {
+                columns[field.ordinal()][row] = field.extract(stock);
+            }
+        }
+        return new CompactIndexSnapshot(parseMillis(response.getTimestamp(), fallbackMillis), symbolIds, lastUpdateMillis, columns);
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public int size() {
+        return symbolIds.length;
+    }
+
+    /**
+     * @return The row of the symbol id, or a negative value if the symbol is not in this snapshot.
+     */
+    public int rowOf(int symbolId) {
+        return Arrays.binarySearch(symbolIds, symbolId);
+    }
+
+    public double value(StockField field, int row) {
+        return columns[field.ordinal()][row];
+    }
+
+    public long lastUpdateMillis(int row) {
+        return lastUpdateMillis[row];
+    }
+
+    /**
+     * Parses an NSE timestamp (e.g. {@code 17-Oct-2026 15:30:00}, IST) to epoch millis.
+     *
+     * @return The epoch millis, or {@code fallback} if the timestamp is missing or malformed.
+     */
+    public static long parseMillis(String timestamp, long fallback) {
+        if (timestamp == null) {
+            return fallback;
+        }
+        try {
+            return LocalDateTime.parse(timestamp, NSE_TIMESTAMP).atZone(NSE_ZONE).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return fallback;
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.sid.app.model.stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One event of the live index stream.
+ * <p>
+ * A {@code snapshot} event carries every symbol of the index; a {@code diff} event carries only the symbols
+ * that changed and the ones that left the index since the previous event. Events are numbered by
+ * {@code sequence}; a client receives a new snapshot whenever it would otherwise miss a diff.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IndexUpdateDTO {
+
+    private String index;
+    private long sequence;
+    private boolean snapshot;
+    private String timestamp;
+    private AdvanceDTO advance;
+    private List<StockDataDTO> changed;
+    private List<String> removed;
+
+}
@@ -0,0 +1,56 @@
+package com.sid.app.model.stock;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Numeric {@link StockDataDTO} fields kept in a {@link CompactIndexSnapshot}, one column each.
+ *
+ * @author Siddhant Patni
+ */
+public enum StockField {
+
+    OPEN("open", StockDataDTO::getOpen),
+    DAY_HIGH("dayHigh", StockDataDTO::getDayHigh),
+    DAY_LOW("dayLow", StockDataDTO::getDayLow),
+    LAST_PRICE("lastPrice", StockDataDTO::getLastPrice),
+    PREVIOUS_CLOSE("previousClose", StockDataDTO::getPreviousClose),
+    CHANGE("change", StockDataDTO::getChange),
+    P_CHANGE("pChange", StockDataDTO::getPChange),
+    TOTAL_TRADED_VOLUME("totalTradedVolume", StockDataDTO::getTotalTradedVolume),
+    TOTAL_TRADED_VALUE("totalTradedValue", StockDataDTO::getTotalTradedValue),
+    YEAR_HIGH("yearHigh", StockDataDTO::getYearHigh),
+    YEAR_LOW("yearLow", StockDataDTO::getYearLow);
+
+    private final String fieldName;
+    private final ToDoubleFunction<StockDataDTO> extractor;
+
+    StockField(String fieldName, ToDoubleFunction<StockDataDTO> extractor) {
+        this.fieldName = fieldName;
+        this.extractor = extractor;
+    }
+
+    /**
+     * @return The field name as it appears in the NSE payload (e.g. {@code pChange}).
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public double extract(StockDataDTO stock) {
+        return extractor.applyAsDouble(stock);
+    }
+
+    /**
+     * Resolves a field by its NSE name, ignoring case.
+     *
+     * @throws IllegalArgumentException if no numeric field has that name.
+     */
+    public static StockField fromFieldName(String fieldName) {
+        return Arrays.stream(values())
+                .filter(field -> field.fieldName.equalsIgnoreCase(fieldName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported field: " + fieldName));
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.sid.app.model.stock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns stock symbols into dense int ids, so snapshots store an {@code int} per row instead of a string.
+ * Ids are never reused; lookups are lock-free, only adding a new symbol synchronizes.
+ *
+ * @author Siddhant Patni
+ */
+public class SymbolDictionary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> symbols = new ArrayList<>();
+
+    /**
+     * @return The id of the symbol, assigning the next free id if it is new.
+     */
+    public int intern(String symbol) {
+        Integer id = ids.get(symbol);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            return ids.computeIfAbsent(symbol, s -> {
+                symbols.add(s);
+                return symbols.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * @return The id of the symbol, or {@code -1} if it was never interned.
+     */
+    public int idOf(String symbol) {
+        return ids.getOrDefault(symbol, -1);
+    }
+
+    public synchronized String symbolOf(int id) {
+        return symbols.get(id);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.sid.app.model.stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Intraday history of one field of one symbol, as parallel arrays of epoch-millis timestamps and values.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SymbolHistoryDTO {
+
+    private String index;
+    private String symbol;
+    private String field;
+    private long[] timestamps;
+    private double[] values;
+
+}
@@ -0,0 +1,25 @@
+package com.sid.app.model.stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One stored tick of one symbol, as read back from the tick store.
+ *
+ * @author Siddhant Patni
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TickDTO {
+
+    private String symbol;
+    private long timestamp;
+    private double lastPrice;
+    private double change;
+    private long volume;
+
+}
@@ -3,6 +3,7 @@ package com.sid.app.repository;
 import com.sid.app.entity.BankAccount;
 import com.sid.app.model.enums.AccountStatus;
 import com.sid.app.model.enums.AccountType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,6 +25,9 @@ public interface BankAccountRepository extends JpaRepository<BankAccount, Long>
     // Find all accounts by user ID
     List<BankAccount> findByUser_UserId(Long userId);
 
+    // Keyset page: accounts with an ID greater than bankAccountId, in ID order
+    List<BankAccount> findByBankAccountIdGreaterThanOrderByBankAccountIdAsc(Long bankAccountId, Pageable pageable);
+
     // Find accounts by account type
     List<BankAccount> findByAccountType(AccountType accountType);
 
@@ -4,6 +4,8 @@ import com.sid.app.entity.BankCard;
 import com.sid.app.model.enums.CardNetwork;
 import com.sid.app.model.enums.CardStatus;
 import com.sid.app.model.enums.CardType;
+import com.sid.app.repository.projection.BankCardSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,6 +21,20 @@ public interface BankCardRepository extends JpaRepository<BankCard, Long> {
     // Find cards by bank account ID (using property path)
     List<BankCard> findByBankAccount_BankAccountId(Long bankAccountId);
 
+    // Card summaries without the encrypted columns (list views)
+    String SUMMARY_SELECT = "SELECT c.bankCardId AS bankCardId, c.bankAccount.bankAccountId AS bankAccountId, " +
+            "c.cardType AS cardType, c.cardNetwork AS cardNetwork, c.cardNumberLastFour AS cardNumberLastFour, " +
+            "c.cardHolderName AS cardHolderName, c.validFromDate AS validFromDate, c.validThruDate AS validThruDate, " +
+            "c.creditLimit AS creditLimit, c.availableCredit AS availableCredit, c.billingCycleDay AS billingCycleDay, " +
+            "c.status AS status, c.isContactless AS isContactless, c.isVirtual AS isVirtual, c.remarks AS remarks " +
+            "FROM BankCard c";
+
+    @Query(SUMMARY_SELECT + " WHERE c.bankCardId > :afterId ORDER BY c.bankCardId")
+    List<BankCardSummary> findSummariesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE c.bankAccount.bankAccountId = :bankAccountId")
+    List<BankCardSummary> findSummariesByBankAccountId(@Param("bankAccountId") Long bankAccountId);
+
     // Find card by ID and account ID (for security validation)
     Optional<BankCard> findByBankCardIdAndBankAccount_BankAccountId(Long cardId, Long bankAccountId);
 
@@ -0,0 +1,177 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.FuelExpenseDTO;
+import com.sid.app.model.VehicleServicingDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Forward-only exports of full history tables.
+ * <p>
+ * Each export holds one connection with auto-commit off and a positive fetch size, which makes the
+ * Postgres driver read through a server-side cursor {@code fetchSize} rows at a time instead of
+ * buffering the whole result. Rows are emitted one per downstream request, so memory use depends on the
+ * fetch size, not on the table size.
+ * <p>
+ * Because a slow client keeps its connection and transaction open, at most {@code app.export.max-concurrent}
+ * exports run at once; further ones fail with {@link RejectedExecutionException} (503). An export that emits
+ * no row for {@code app.export.idle-timeout}, e.g. because its client stopped reading, is cancelled and its
+ * connection released, and Postgres ends the transaction by itself if the app does not.
+ * <p>
+ * The returned {@link Flux} blocks on JDBC and must be subscribed on the blocking scheduler.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Repository
+public class ExportRepository {
+
+    private static final String FUEL_EXPENSE_SQL = "SELECT f.fuel_expense_id, f.vehicle_id, v.registration_number, f.fuel_filled_date, " +
+            "f.quantity, f.rate, f.amount, f.odometer_reading, f.location, f.payment_mode " +
+            "FROM fuel_expense f JOIN vehicle v ON v.vehicle_id = f.vehicle_id";
+
+    private static final String VEHICLE_SERVICE_SQL = "SELECT vehicle_id, service_date, odometer_reading, service_type, service_center, " +
+            "service_manager, location, next_service_due, service_cost, remarks FROM vehicle_service";
+
+    private static final RowMapper<FuelExpenseDTO> FUEL_EXPENSE_MAPPER = (rs, rowNum) -> FuelExpenseDTO.builder()
+            .fuelExpenseId(rs.getLong("fuel_expense_id"))
+            .vehicleId(rs.getLong("vehicle_id"))
+            .vehicleRegistrationNumber(rs.getString("registration_number"))
+            .fuelFilledDate(rs.getObject("fuel_filled_date", LocalDate.class))
+            .quantity(rs.getBigDecimal("quantity"))
+            .rate(rs.getBigDecimal("rate"))
+            .amount(rs.getBigDecimal("amount"))
+            .odometerReading(rs.getInt("odometer_reading"))
+            .location(rs.getString("location"))
+            .paymentMode(rs.getString("payment_mode"))
+            .build();
+
+    private static final RowMapper<VehicleServicingDTO> VEHICLE_SERVICE_MAPPER = (rs, rowNum) -> VehicleServicingDTO.builder()
+            .vehicleId(rs.getLong("vehicle_id"))
+            .serviceDate(rs.getObject("service_date", LocalDate.class))
+            .odometerReading(rs.getLong("odometer_reading"))
+            .serviceType(rs.getString("service_type"))
+            .serviceCenter(rs.getString("service_center"))
+            .serviceManager(rs.getString("service_manager"))
+            .location(rs.getString("location"))
+            .nextServiceDue(rs.getObject("next_service_due", LocalDate.class))
+            .serviceCost(rs.getDouble("service_cost"))
+            .remarks(rs.getString("remarks"))
+            .build();
+
+    private final DataSource dataSource;
+    private final int fetchSize;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final Duration idleTimeout;
+
+    public ExportRepository(DataSource dataSource,
+                            @Value("${app.export.fetch-size:500}") int fetchSize,
+                            @Value("${app.export.max-concurrent:4}") int maxConcurrent,
+                            @Value("${app.export.idle-timeout:PT1M}") Duration idleTimeout) {
+        this.dataSource = dataSource;
+        this.fetchSize = fetchSize;
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * @param vehicleId Restricts the export to one vehicle, or {@code null} for all vehicles.
+     */
+    public Flux<FuelExpenseDTO> streamFuelExpenses(Long vehicleId) {
+        return vehicleId == null
+                ? stream(FUEL_EXPENSE_SQL + " ORDER BY f.fuel_expense_id", null, FUEL_EXPENSE_MAPPER)
+                : stream(FUEL_EXPENSE_SQL + " WHERE f.vehicle_id = ? ORDER BY f.fuel_expense_id", vehicleId, FUEL_EXPENSE_MAPPER);
+    }
+
+    /**
+     * @param vehicleId Restricts the export to one vehicle, or {@code null} for all vehicles.
+     */
+    public Flux<VehicleServicingDTO> streamVehicleServices(Long vehicleId) {
+        return vehicleId == null
+                ? stream(VEHICLE_SERVICE_SQL + " ORDER BY servicing_id", null, VEHICLE_SERVICE_MAPPER)
+                : stream(VEHICLE_SERVICE_SQL + " WHERE vehicle_id = ? ORDER BY servicing_id", vehicleId, VEHICLE_SERVICE_MAPPER);
+    }
+
+    private <T> Flux<T> stream(String sql, Long parameter, RowMapper<T> rowMapper) {
+        return Flux.using(
+                () -> openCursor(sql, parameter),
+                cursor -> Flux.<T>generate(sink -> {
+                    try {
+                        if (cursor.resultSet().next()) {
+                            sink.next(rowMapper.mapRow(cursor.resultSet(), cursor.resultSet().getRow()));
+                        } else {
+                            sink.complete();
+                        }
+                    } catch (SQLException e) {
+                        sink.error(e);
+                    }
+                }),
+                this::closeCursor)
+                .timeout(idleTimeout);
+    }
+
+    private Cursor openCursor(String sql, Long parameter) throws SQLException {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Export limit reached: " + maxConcurrent + " export(s) already running");
+        }
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        try {
+            connection.setAutoCommit(false); // the driver only uses a server-side cursor inside a transaction
+            connection.setReadOnly(true);
+            try (Statement setting = connection.createStatement()) {
+                // Only for this transaction; backstop for a cursor the app fails to close
+                setting.execute("SET LOCAL idle_in_transaction_session_timeout = " + idleTimeout.multipliedBy(2).toMillis());
+            }
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            if (parameter != null) {
+                statement.setLong(1, parameter);
+            }
+            return new Cursor(connection, statement, statement.executeQuery());
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void closeCursor(Cursor cursor) {
+        try (Connection connection = cursor.connection()) {
+            cursor.resultSet().close();
+            cursor.statement().close();
+            connection.rollback(); // read-only, nothing to commit; ends the cursor's transaction
+            connection.setReadOnly(false);
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            log.warn("Failed to release export cursor: {}", e.getMessage());
+        } finally {
+            permits.release();
+        }
+    }
+
+    private record Cursor(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+    }
+
+}
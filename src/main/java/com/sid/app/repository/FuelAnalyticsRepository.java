@@ -0,0 +1,75 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.FuelAnalyticsDTO;
+import com.sid.app.model.enums.AnalyticsPeriod;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Fuel analytics aggregated in Postgres, so only one row per period leaves the database.
+ * <p>
+ * The distance of a fill is the odometer delta to the previous fill of the same vehicle ({@code LAG}).
+ * It is computed over the vehicle's whole history up to {@code to}, so the first fill inside the range
+ * still gets its delta. Mileage uses the full-tank method: the distance since the previous fill is
+ * attributed to the fuel bought at this fill, and fills without a previous reading are left out of
+ * km/l and cost/km.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Repository
+public class FuelAnalyticsRepository {
+
+    private static final String ANALYTICS_SQL = """
+            WITH fills AS (
+                SELECT vehicle_id, fuel_filled_date, quantity, rate, amount,
+                       odometer_reading - LAG(odometer_reading) OVER (
+                           PARTITION BY vehicle_id ORDER BY fuel_filled_date, odometer_reading, fuel_expense_id) AS distance
+                FROM fuel_expense
+                WHERE vehicle_id = :vehicleId AND fuel_filled_date <= :to
+            )
+            SELECT vehicle_id,
+                   CAST(date_trunc(:period, CAST(fuel_filled_date AS TIMESTAMP)) AS DATE) AS period_start,
+                   COUNT(*) AS fill_count,
+                   SUM(quantity) AS litres,
+                   SUM(amount) AS amount,
+                   ROUND(AVG(rate), 2) AS average_rate,
+                   SUM(distance) AS distance_km,
+                   ROUND(SUM(distance) / NULLIF(SUM(quantity) FILTER (WHERE distance IS NOT NULL), 0), 2) AS km_per_litre,
+                   ROUND(SUM(amount) FILTER (WHERE distance IS NOT NULL) / NULLIF(SUM(distance), 0), 2) AS cost_per_km
+            FROM fills
+            WHERE fuel_filled_date >= :from
+            GROUP BY vehicle_id, period_start
+            ORDER BY period_start
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public FuelAnalyticsRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<FuelAnalyticsDTO> findFuelAnalytics(Long vehicleId, AnalyticsPeriod period, LocalDate from, LocalDate to) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("vehicleId", vehicleId)
+                .addValue("period", period.name().toLowerCase())
+                .addValue("from", from)
+                .addValue("to", to);
+
+        return jdbcTemplate.query(ANALYTICS_SQL, parameters, (rs, rowNum) -> FuelAnalyticsDTO.builder()
+                .vehicleId(rs.getLong("vehicle_id"))
+                .periodStart(rs.getObject("period_start", LocalDate.class))
+                .fillCount(rs.getInt("fill_count"))
+                .litres(rs.getBigDecimal("litres"))
+                .amount(rs.getBigDecimal("amount"))
+                .averageRate(rs.getBigDecimal("average_rate"))
+                .distanceKm(rs.getObject("distance_km", Long.class))
+                .kmPerLitre(rs.getBigDecimal("km_per_litre"))
+                .costPerKm(rs.getBigDecimal("cost_per_km"))
+                .build());
+    }
+
+}
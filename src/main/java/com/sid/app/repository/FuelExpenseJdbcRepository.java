@@ -0,0 +1,74 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.FuelExpenseDTO;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain JDBC inserts for bulk fuel expense imports.
+ * <p>
+ * Going through JDBC sends each chunk as one batch (rewritten into multi-row inserts by the driver's
+ * {@code reWriteBatchedInserts}) without loading vehicles or growing a persistence context.
+ * IDs are reserved up front through {@link SequenceIdAllocator} and inserted explicitly.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Repository
+public class FuelExpenseJdbcRepository {
+
+    private static final String SEQUENCE = "fuel_expense_seq";
+
+    private static final String INSERT_SQL = "INSERT INTO fuel_expense (fuel_expense_id, vehicle_id, fuel_filled_date, quantity, rate, amount, " +
+            "odometer_reading, location, payment_mode, created_date, modified_date) " +
+            "VALUES (:fuelExpenseId, :vehicleId, :fuelFilledDate, :quantity, :rate, :amount, :odometerReading, :location, :paymentMode, :now, :now)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator idAllocator;
+
+    public FuelExpenseJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate, SequenceIdAllocator idAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+    }
+
+    /**
+     * Inserts the fuel expenses as one JDBC batch and sets their IDs.
+     */
+    public void insertBatch(List<FuelExpenseDTO> fuelExpenses) {
+        LocalDateTime now = LocalDateTime.now();
+        long[] ids = idAllocator.next(SEQUENCE, fuelExpenses.size());
+        SqlParameterSource[] batch = new SqlParameterSource[fuelExpenses.size()];
+        for (int i = 0; i < batch.length; i++) {
+            fuelExpenses.get(i).setFuelExpenseId(ids[i]);
+            batch[i] = toParameters(fuelExpenses.get(i), now);
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+
+    /**
+     * Inserts a single fuel expense and sets its ID.
+     */
+    public void insert(FuelExpenseDTO fuelExpense) {
+        fuelExpense.setFuelExpenseId(idAllocator.next(SEQUENCE, 1)[0]);
+        jdbcTemplate.update(INSERT_SQL, toParameters(fuelExpense, LocalDateTime.now()));
+    }
+
+    private SqlParameterSource toParameters(FuelExpenseDTO fuelExpense, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("fuelExpenseId", fuelExpense.getFuelExpenseId())
+                .addValue("vehicleId", fuelExpense.getVehicleId())
+                .addValue("fuelFilledDate", fuelExpense.getFuelFilledDate())
+                .addValue("quantity", fuelExpense.getQuantity())
+                .addValue("rate", fuelExpense.getRate())
+                .addValue("amount", fuelExpense.getAmount())
+                .addValue("odometerReading", fuelExpense.getOdometerReading())
+                .addValue("location", fuelExpense.getLocation())
+                .addValue("paymentMode", fuelExpense.getPaymentMode())
+                .addValue("now", now);
+    }
+
+}
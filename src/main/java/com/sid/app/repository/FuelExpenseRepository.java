@@ -1,21 +1,32 @@
 package com.sid.app.repository;
 
 import com.sid.app.entity.FuelExpense;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 /**
+ * Read methods fetch-join the vehicle, since every fuel expense DTO carries its registration number.
+ *
  * @author Siddhant Patni
  */
 @Repository
 public interface FuelExpenseRepository extends JpaRepository<FuelExpense, Long> {
 
+    @EntityGraph(attributePaths = "vehicle")
     List<FuelExpense> findByVehicle_VehicleId(Long vehicleId);
 
+    @EntityGraph(attributePaths = "vehicle")
     List<FuelExpense> findByVehicle_RegistrationNumber(String registrationNumber);
 
+    @EntityGraph(attributePaths = "vehicle")
     List<FuelExpense> findByVehicle_VehicleIdAndVehicle_RegistrationNumber(Long vehicleId, String registrationNumber);
 
+    // Keyset page: expenses with an ID greater than fuelExpenseId, in ID order
+    @EntityGraph(attributePaths = "vehicle")
+    List<FuelExpense> findByFuelExpenseIdGreaterThanOrderByFuelExpenseIdAsc(Long fuelExpenseId, Pageable pageable);
+
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.sid.app.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Batched last-login updates for {@link com.sid.app.service.LoginActivityRecorder}.
+ * <p>
+ * An update never moves {@code last_login_time} backwards, so flushes from several nodes can arrive in any order.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Repository
+public class LoginActivityRepository {
+
+    private static final String UPDATE_LAST_LOGIN_SQL = "UPDATE users SET last_login_time = :lastLoginTime " +
+            "WHERE user_id = :userId AND (last_login_time IS NULL OR last_login_time < :lastLoginTime)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public LoginActivityRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Writes the last-login times as one JDBC batch.
+     *
+     * @param lastLogins Last-login time by user ID.
+     */
+    public void updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+        SqlParameterSource[] batch = lastLogins.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("userId", entry.getKey())
+                        .addValue("lastLoginTime", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, batch);
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.MonthlySpendDTO;
+import com.sid.app.model.SpendDelta;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * JDBC access to the {@code vehicle_monthly_spend} rollup.
+ * <p>
+ * Deltas are applied with {@code INSERT ... ON CONFLICT DO UPDATE}, so concurrent writers add to the
+ * same row instead of overwriting each other. The rebuild takes an exclusive lock on the rollup first:
+ * a writer that already applied its delta is committed before the rebuild reads the source tables,
+ * and one that has not yet applied it waits and applies it on top of the rebuilt row.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Repository
+public class MonthlySpendRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO vehicle_monthly_spend (vehicle_id, user_id, spend_month, fuel_amount, fuel_litres, fuel_count,
+                                               service_amount, service_count, modified_date)
+            SELECT v.vehicle_id, v.user_id, :month, :fuelAmount, :fuelLitres, :fuelCount, :serviceAmount, :serviceCount, CURRENT_TIMESTAMP
+            FROM vehicle v
+            WHERE v.vehicle_id = :vehicleId
+            ON CONFLICT (vehicle_id, spend_month) DO UPDATE SET
+                fuel_amount = vehicle_monthly_spend.fuel_amount + EXCLUDED.fuel_amount,
+                fuel_litres = vehicle_monthly_spend.fuel_litres + EXCLUDED.fuel_litres,
+                fuel_count = vehicle_monthly_spend.fuel_count + EXCLUDED.fuel_count,
+                service_amount = vehicle_monthly_spend.service_amount + EXCLUDED.service_amount,
+                service_count = vehicle_monthly_spend.service_count + EXCLUDED.service_count,
+                modified_date = EXCLUDED.modified_date
+            """;
+
+    private static final String REBUILD_SQL = """
+            INSERT INTO vehicle_monthly_spend (vehicle_id, user_id, spend_month, fuel_amount, fuel_litres, fuel_count,
+                                               service_amount, service_count)
+            SELECT s.vehicle_id, v.user_id, s.spend_month,
+                   SUM(s.fuel_amount), SUM(s.fuel_litres), SUM(s.fuel_count), SUM(s.service_amount), SUM(s.service_count)
+            FROM (
+                SELECT vehicle_id, CAST(date_trunc('month', CAST(fuel_filled_date AS TIMESTAMP)) AS DATE) AS spend_month,
+                       amount AS fuel_amount, quantity AS fuel_litres, 1 AS fuel_count, 0 AS service_amount, 0 AS service_count
+                FROM fuel_expense
+                UNION ALL
+                SELECT vehicle_id, CAST(date_trunc('month', CAST(service_date AS TIMESTAMP)) AS DATE),
+                       0, 0, 0, service_cost, 1
+                FROM vehicle_service
+            ) s
+            JOIN vehicle v ON v.vehicle_id = s.vehicle_id
+            GROUP BY s.vehicle_id, v.user_id, s.spend_month
+            """;
+
+    private static final String BY_VEHICLE_SQL = """
+            SELECT spend_month, vehicle_id, fuel_amount, fuel_litres, fuel_count, service_amount, service_count
+            FROM vehicle_monthly_spend
+            WHERE vehicle_id = :id AND spend_month BETWEEN :from AND :to AND fuel_count + service_count > 0
+            ORDER BY spend_month
+            """;
+
+    private static final String BY_USER_SQL = """
+            SELECT spend_month, CAST(NULL AS BIGINT) AS vehicle_id, SUM(fuel_amount) AS fuel_amount, SUM(fuel_litres) AS fuel_litres,
+                   SUM(fuel_count) AS fuel_count, SUM(service_amount) AS service_amount, SUM(service_count) AS service_count
+            FROM vehicle_monthly_spend
+            WHERE user_id = :id AND spend_month BETWEEN :from AND :to
+            GROUP BY spend_month
+            HAVING SUM(fuel_count + service_count) > 0
+            ORDER BY spend_month
+            """;
+
+    private static final RowMapper<MonthlySpendDTO> ROW_MAPPER = (rs, rowNum) -> MonthlySpendDTO.builder()
+            .month(YearMonth.from(rs.getObject("spend_month", LocalDate.class)))
+            .vehicleId(rs.getObject("vehicle_id", Long.class))
+            .fuelAmount(rs.getBigDecimal("fuel_amount"))
+            .fuelLitres(rs.getBigDecimal("fuel_litres"))
+            .fuelCount(rs.getInt("fuel_count"))
+            .serviceAmount(rs.getBigDecimal("service_amount"))
+            .serviceCount(rs.getInt("service_count"))
+            .totalAmount(rs.getBigDecimal("fuel_amount").add(rs.getBigDecimal("service_amount")))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public MonthlySpendRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds the deltas to their rows, creating missing rows. Must run in the transaction that wrote the source records.
+     */
+    public void applyDeltas(List<SpendDelta> deltas) {
+        SqlParameterSource[] batch = deltas.stream()
+                .map(delta -> new MapSqlParameterSource()
+                        .addValue("vehicleId", delta.vehicleId())
+                        .addValue("month", delta.month().atDay(1))
+                        .addValue("fuelAmount", delta.fuelAmount())
+                        .addValue("fuelLitres", delta.fuelLitres())
+                        .addValue("fuelCount", delta.fuelCount())
+                        .addValue("serviceAmount", delta.serviceAmount())
+                        .addValue("serviceCount", delta.serviceCount()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+    }
+
+    /**
+     * Recomputes the whole rollup from {@code fuel_expense} and {@code vehicle_service}. Must run in a transaction.
+     *
+     * @return Number of rollup rows written.
+     */
+    public int rebuild() {
+        jdbcTemplate.getJdbcTemplate().execute("LOCK TABLE vehicle_monthly_spend IN EXCLUSIVE MODE");
+        jdbcTemplate.getJdbcTemplate().update("DELETE FROM vehicle_monthly_spend");
+        return jdbcTemplate.getJdbcTemplate().update(REBUILD_SQL);
+    }
+
+    public List<MonthlySpendDTO> findByVehicle(Long vehicleId, YearMonth from, YearMonth to) {
+        return jdbcTemplate.query(BY_VEHICLE_SQL, rangeParameters(vehicleId, from, to), ROW_MAPPER);
+    }
+
+    public List<MonthlySpendDTO> findByUser(Long userId, YearMonth from, YearMonth to) {
+        return jdbcTemplate.query(BY_USER_SQL, rangeParameters(userId, from, to), ROW_MAPPER);
+    }
+
+    private SqlParameterSource rangeParameters(Long id, YearMonth from, YearMonth to) {
+        return new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("from", from.atDay(1))
+                .addValue("to", to.atDay(1));
+    }
+
+}
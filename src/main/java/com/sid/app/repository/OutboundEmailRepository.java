@@ -0,0 +1,66 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.OutboundEmail;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC access to the {@code outbound_email} spillover table of the mail queue.
+ * <p>
+ * Claiming deletes the rows it returns and skips rows locked by another node, so each spilled email is
+ * picked up by exactly one node. Sensitive emails are never written here, see {@link OutboundEmail#sensitive()}.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Repository
+public class OutboundEmailRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO outbound_email (sender, recipient, subject, body, attempts) " +
+            "VALUES (:sender, :recipient, :subject, :body, :attempts)";
+
+    private static final String CLAIM_SQL = """
+            DELETE FROM outbound_email
+            WHERE id IN (SELECT id FROM outbound_email ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED)
+            RETURNING sender, recipient, subject, body, attempts
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OutboundEmailRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(OutboundEmail email) {
+        jdbcTemplate.update(INSERT_SQL, toParameters(email));
+    }
+
+    public void insertAll(Collection<OutboundEmail> emails) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, emails.stream()
+                .map(OutboundEmailRepository::toParameters)
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * Removes and returns up to {@code limit} of the oldest spilled emails.
+     */
+    public List<OutboundEmail> claim(int limit) {
+        return jdbcTemplate.query(CLAIM_SQL, new MapSqlParameterSource("limit", limit), (rs, rowNum) -> new OutboundEmail(
+                rs.getString("sender"), rs.getString("recipient"), rs.getString("subject"), rs.getString("body"),
+                rs.getInt("attempts"), false));
+    }
+
+    private static SqlParameterSource toParameters(OutboundEmail email) {
+        return new MapSqlParameterSource()
+                .addValue("sender", email.from())
+                .addValue("recipient", email.to())
+                .addValue("subject", email.subject())
+                .addValue("body", email.htmlBody())
+                .addValue("attempts", email.attempts());
+    }
+
+}
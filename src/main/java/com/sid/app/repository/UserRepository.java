@@ -1,8 +1,14 @@
 package com.sid.app.repository;
 
 import com.sid.app.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,4 +20,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmailOrMobileNumber(String email, String mobileNumber);
 
+    // Keyset page: users with an ID greater than userId, in ID order
+    List<User> findByUserIdGreaterThanOrderByUserIdAsc(Long userId, Pageable pageable);
+
+    // Only touches login_attempts, so it cannot overwrite a last_login_time written behind by LoginActivityRecorder
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.loginAttempts = 0 WHERE u.userId = :userId")
+    int resetLoginAttempts(@Param("userId") Long userId);
+
+    // Counts a failed login in place and locks the account once maxAttempts is reached
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.loginAttempts = u.loginAttempts + 1, " +
+            "u.accountLocked = CASE WHEN u.loginAttempts + 1 >= :maxAttempts THEN true ELSE u.accountLocked END " +
+            "WHERE u.userId = :userId")
+    int recordFailedLogin(@Param("userId") Long userId, @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password WHERE u.userId = :userId")
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password);
+
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.VehicleDTO;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plain JDBC access for bulk vehicle registration.
+ * <p>
+ * Going through JDBC sends each chunk as one batch without loading users or growing a persistence context.
+ * IDs are reserved up front through {@link SequenceIdAllocator} and inserted explicitly. The duplicate check binds each identifier list as a single
+ * array parameter, so it stays one statement with three bind values however large the batch is.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Repository
+public class VehicleJdbcRepository {
+
+    private static final String EXISTING_IDENTIFIERS_SQL = "SELECT chassis_number, engine_number, registration_number FROM vehicle " +
+            "WHERE chassis_number = ANY(:chassisNumbers) OR engine_number = ANY(:engineNumbers) " +
+            "OR registration_number = ANY(:registrationNumbers)";
+
+    private static final String SEQUENCE = "vehicle_seq";
+
+    private static final String INSERT_SQL = "INSERT INTO vehicle (vehicle_id, user_id, vehicle_type, vehicle_company, vehicle_model, " +
+            "chassis_number, engine_number, registration_number, registration_date, registration_validity_date, owner_name, " +
+            "created_date, modified_date) " +
+            "VALUES (:vehicleId, :userId, :vehicleType, :vehicleCompany, :vehicleModel, :chassisNumber, :engineNumber, :registrationNumber, " +
+            ":registrationDate, :registrationValidityDate, :ownerName, :now, :now)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator idAllocator;
+
+    public VehicleJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate, SequenceIdAllocator idAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+    }
+
+    /**
+     * Finds the registered vehicles that clash with any of the given identifiers.
+     *
+     * @return Rows of {@code [chassisNumber, engineNumber, registrationNumber]}.
+     */
+    public List<String[]> findExistingIdentifiers(Collection<String> chassisNumbers, Collection<String> engineNumbers,
+                                                  Collection<String> registrationNumbers) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("chassisNumbers", chassisNumbers.toArray(String[]::new))
+                .addValue("engineNumbers", engineNumbers.toArray(String[]::new))
+                .addValue("registrationNumbers", registrationNumbers.toArray(String[]::new));
+        return jdbcTemplate.query(EXISTING_IDENTIFIERS_SQL, parameters, (rs, rowNum) -> new String[]{
+                rs.getString("chassis_number"), rs.getString("engine_number"), rs.getString("registration_number")});
+    }
+
+    /**
+     * Inserts the vehicles as one JDBC batch and sets their IDs.
+     */
+    public void insertBatch(List<VehicleDTO> vehicles) {
+        LocalDateTime now = LocalDateTime.now();
+        long[] ids = idAllocator.next(SEQUENCE, vehicles.size());
+        SqlParameterSource[] batch = new SqlParameterSource[vehicles.size()];
+        for (int i = 0; i < batch.length; i++) {
+            vehicles.get(i).setVehicleId(ids[i]);
+            batch[i] = toParameters(vehicles.get(i), now);
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+
+    /**
+     * Inserts a single vehicle and sets its ID.
+     */
+    public void insert(VehicleDTO vehicle) {
+        vehicle.setVehicleId(idAllocator.next(SEQUENCE, 1)[0]);
+        jdbcTemplate.update(INSERT_SQL, toParameters(vehicle, LocalDateTime.now()));
+    }
+
+    private SqlParameterSource toParameters(VehicleDTO vehicle, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("vehicleId", vehicle.getVehicleId())
+                .addValue("userId", vehicle.getUserId())
+                .addValue("vehicleType", vehicle.getVehicleType())
+                .addValue("vehicleCompany", vehicle.getVehicleCompany())
+                .addValue("vehicleModel", vehicle.getVehicleModel())
+                .addValue("chassisNumber", vehicle.getChassisNumber())
+                .addValue("engineNumber", vehicle.getEngineNumber())
+                .addValue("registrationNumber", vehicle.getRegistrationNumber())
+                .addValue("registrationDate", vehicle.getRegistrationDate())
+                .addValue("registrationValidityDate", vehicle.getRegistrationValidityDate())
+                .addValue("ownerName", vehicle.getOwnerName())
+                .addValue("now", now);
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.sid.app.repository;
 
 import com.sid.app.entity.Vehicle;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -34,4 +35,9 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
 
     Optional<Vehicle> findByRegistrationNumber(String registrationNumber);
 
+    /**
+     * Keyset page: vehicles with an ID greater than {@code vehicleId}, in ID order.
+     */
+    List<Vehicle> findByVehicleIdGreaterThanOrderByVehicleIdAsc(Long vehicleId, Pageable pageable);
+
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.sid.app.repository.projection;
+
+import com.sid.app.model.enums.CardNetwork;
+import com.sid.app.model.enums.CardStatus;
+import com.sid.app.model.enums.CardType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read-only view of a bank card without the encrypted card number, PIN and CVV columns.
+ * Used by card listings, which only display the last four digits.
+ * <p>
+ * Author: Siddhant Patni
+ */
+public interface BankCardSummary {
+
+    Long getBankCardId();
+
+    Long getBankAccountId();
+
+    CardType getCardType();
+
+    CardNetwork getCardNetwork();
+
+    String getCardNumberLastFour();
+
+    String getCardHolderName();
+
+    LocalDate getValidFromDate();
+
+    LocalDate getValidThruDate();
+
+    BigDecimal getCreditLimit();
+
+    BigDecimal getAvailableCredit();
+
+    Integer getBillingCycleDay();
+
+    CardStatus getStatus();
+
+    Boolean getIsContactless();
+
+    Boolean getIsVirtual();
+
+    String getRemarks();
+
+}
@@ -0,0 +1,120 @@
+package com.sid.app.repository.reactive;
+
+import com.sid.app.model.BankAccountDTO;
+import com.sid.app.model.FuelExpenseDTO;
+import com.sid.app.model.VehicleDTO;
+import com.sid.app.model.VehicleServicingDTO;
+import com.sid.app.model.enums.AccountStatus;
+import com.sid.app.model.enums.AccountType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Non-blocking reads for the busiest list endpoints. Rows are mapped straight to DTOs and emitted as
+ * they arrive, so Postgres backpressure propagates all the way to the HTTP response.
+ * <p>
+ * Mirrors {@code FuelExpenseRepository.findByVehicle_VehicleId}, {@code VehicleRepository.findByUser_UserId},
+ * {@code BankAccountRepository.findByUser_UserId} and {@code VehicleServiceRepository.findByVehicle_VehicleId}.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Repository
+@Profile("r2dbc")
+public class ReactiveReadRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReadRepository(DatabaseClient reactiveDatabaseClient) {
+        this.databaseClient = reactiveDatabaseClient;
+    }
+
+    public Flux<FuelExpenseDTO> findFuelExpensesByVehicleId(Long vehicleId) {
+        return databaseClient.sql("SELECT f.fuel_expense_id, f.vehicle_id, v.registration_number, f.fuel_filled_date, " +
+                        "f.quantity, f.rate, f.amount, f.odometer_reading, f.location, f.payment_mode " +
+                        "FROM fuel_expense f JOIN vehicle v ON v.vehicle_id = f.vehicle_id " +
+                        "WHERE f.vehicle_id = :vehicleId")
+                .bind("vehicleId", vehicleId)
+                .map((row, metadata) -> FuelExpenseDTO.builder()
+                        .fuelExpenseId(row.get("fuel_expense_id", Long.class))
+                        .vehicleId(row.get("vehicle_id", Long.class))
+                        .vehicleRegistrationNumber(row.get("registration_number", String.class))
+                        .fuelFilledDate(row.get("fuel_filled_date", LocalDate.class))
+                        .quantity(row.get("quantity", BigDecimal.class))
+                        .rate(row.get("rate", BigDecimal.class))
+                        .amount(row.get("amount", BigDecimal.class))
+                        .odometerReading(row.get("odometer_reading", Integer.class))
+                        .location(row.get("location", String.class))
+                        .paymentMode(row.get("payment_mode", String.class))
+                        .build())
+                .all();
+    }
+
+    public Flux<VehicleDTO> findVehiclesByUserId(Long userId) {
+        return databaseClient.sql("SELECT vehicle_id, user_id, vehicle_type, vehicle_company, vehicle_model, chassis_number, " +
+                        "engine_number, registration_number, registration_date, registration_validity_date, owner_name " +
+                        "FROM vehicle WHERE user_id = :userId")
+                .bind("userId", userId)
+                .map((row, metadata) -> VehicleDTO.builder()
+                        .vehicleId(row.get("vehicle_id", Long.class))
+                        .userId(row.get("user_id", Long.class))
+                        .vehicleType(row.get("vehicle_type", String.class))
+                        .vehicleCompany(row.get("vehicle_company", String.class))
+                        .vehicleModel(row.get("vehicle_model", String.class))
+                        .chassisNumber(row.get("chassis_number", String.class))
+                        .engineNumber(row.get("engine_number", String.class))
+                        .registrationNumber(row.get("registration_number", String.class))
+                        .registrationDate(row.get("registration_date", LocalDate.class))
+                        .registrationValidityDate(row.get("registration_validity_date", LocalDate.class))
+                        .ownerName(row.get("owner_name", String.class))
+                        .build())
+                .all();
+    }
+
+    public Flux<BankAccountDTO> findBankAccountsByUserId(Long userId) {
+        return databaseClient.sql("SELECT bank_account_id, user_id, account_number, account_holder_name, account_type, bank_name, " +
+                        "branch_name, ifsc_code, branch_location, opening_date, nominee_name, account_status " +
+                        "FROM bank_account WHERE user_id = :userId")
+                .bind("userId", userId)
+                .map((row, metadata) -> BankAccountDTO.builder()
+                        .accountId(row.get("bank_account_id", Long.class))
+                        .userId(row.get("user_id", Long.class))
+                        .accountNumber(row.get("account_number", String.class))
+                        .accountHolderName(row.get("account_holder_name", String.class))
+                        .accountType(AccountType.valueOf(row.get("account_type", String.class)))
+                        .bankName(row.get("bank_name", String.class))
+                        .branchName(row.get("branch_name", String.class))
+                        .ifscCode(row.get("ifsc_code", String.class))
+                        .branchLocation(row.get("branch_location", String.class))
+                        .openingDate(row.get("opening_date", LocalDate.class))
+                        .nomineeName(row.get("nominee_name", String.class))
+                        .accountStatus(AccountStatus.valueOf(row.get("account_status", String.class)))
+                        .build())
+                .all();
+    }
+
+    public Flux<VehicleServicingDTO> findVehicleServicesByVehicleId(Long vehicleId) {
+        return databaseClient.sql("SELECT vehicle_id, service_date, odometer_reading, service_type, service_center, service_manager, " +
+                        "location, next_service_due, service_cost, remarks " +
+                        "FROM vehicle_service WHERE vehicle_id = :vehicleId")
+                .bind("vehicleId", vehicleId)
+                .map((row, metadata) -> VehicleServicingDTO.builder()
+                        .vehicleId(row.get("vehicle_id", Long.class))
+                        .serviceDate(row.get("service_date", LocalDate.class))
+                        .odometerReading(row.get("odometer_reading", Long.class))
+                        .serviceType(row.get("service_type", String.class))
+                        .serviceCenter(row.get("service_center", String.class))
+                        .serviceManager(row.get("service_manager", String.class))
+                        .location(row.get("location", String.class))
+                        .nextServiceDue(row.get("next_service_due", LocalDate.class))
+                        .serviceCost(row.get("service_cost", Double.class))
+                        .remarks(row.get("remarks", String.class))
+                        .build())
+                .all();
+    }
+
+}
@@ -8,6 +8,8 @@ import com.sid.app.model.LoginRequest;
 import com.sid.app.model.RegisterRequest;
 import com.sid.app.model.ForgotPasswordResetRequest;
 import com.sid.app.model.ResponseDTO;
+import com.sid.app.model.enums.OtpPurpose;
+import com.sid.app.model.enums.OtpVerification;
 import com.sid.app.repository.UserRepository;
 import com.sid.app.utils.AESUtils;
 import lombok.RequiredArgsConstructor;
@@ -19,22 +21,22 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuthService {
 
+    private static final int MAX_LOGIN_ATTEMPTS = 5;
+
     private final UserRepository userRepository;
     private final EmailService emailService;
     private final JwtUtil jwtUtil;
     private final BCryptPasswordEncoder passwordEncoder;
     private final AESUtils aesUtils;
     private final EncryptionKeyService encryptionKeyService;
-
-    private static final ConcurrentHashMap<String, String> otpStore = new ConcurrentHashMap<>();
+    private final OtpService otpService;
+    private final LoginActivityRecorder loginActivityRecorder;
 
     public AuthResponse register(RegisterRequest request) {
         log.info("Checking if email {} or mobile {} already exists", request.getEmail(), request.getMobileNumber());
@@ -117,8 +119,9 @@ public class AuthService {
 
         User user = optionalUser.get();
 
-        // Store the previous login time before updating it
-        LocalDateTime previousLoginTime = user.getLastLoginTime();
+        // Store the previous login time before updating it; the latest one may not be flushed yet
+        LocalDateTime previousLoginTime = loginActivityRecorder.pendingLastLogin(user.getUserId())
+                .orElse(user.getLastLoginTime());
 
         // Check if account is active
         if (!user.getIsActive()) {
@@ -153,13 +156,14 @@ public class AuthService {
             user.setLoginAttempts(user.getLoginAttempts() + 1);
 
             // Lock account after 5 failed attempts
-            if (user.getLoginAttempts() >= 5) {
+            if (user.getLoginAttempts() >= MAX_LOGIN_ATTEMPTS) {
                 user.setAccountLocked(true);
                 log.warn("login() : Account locked due to too many failed attempts: {}",
                         request.getEmail());
             }
 
-            userRepository.save(user);
+            // Targeted UPDATE, so a last_login_time written behind by LoginActivityRecorder is kept
+            userRepository.recordFailedLogin(user.getUserId(), MAX_LOGIN_ATTEMPTS);
 
             log.warn("login() : Login failed: Invalid credentials for email {}",
                     request.getEmail());
@@ -168,13 +172,13 @@ public class AuthService {
                     null, user.getIsActive(), user.getLoginAttempts(), user.getAccountLocked());
         }
 
-        // Reset login attempts on successful login
-        user.setLoginAttempts(0);
+        // Reset login attempts on successful login; only needed after earlier failures
+        if (user.getLoginAttempts() != 0) {
+            userRepository.resetLoginAttempts(user.getUserId());
+        }
 
-        // Update last login time with current time
-        LocalDateTime now = LocalDateTime.now();
-        user.setLastLoginTime(now);
-        userRepository.save(user);
+        // Last login time is written behind, in batches
+        loginActivityRecorder.recordLogin(user.getUserId(), LocalDateTime.now());
 
         // Generate JWT token
         String token = jwtUtil.generateToken(user.getEmail());
@@ -210,12 +214,17 @@ public class AuthService {
             return ResponseEntity.status(404).body(new ResponseDTO<>("FAILED", "User not found.", null));
         }
 
-        // Generate a 6-digit OTP
-        String otp = String.format("%06d", new Random().nextInt(999999));
-        otpStore.put(email, otp);
+        Optional<String> otp = otpService.issue(OtpPurpose.PASSWORD_RESET, email);
+        if (otp.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(new ResponseDTO<>(AppConstants.STATUS_FAILED, AppConstants.ERROR_MESSAGE_OTP_COOLDOWN, null));
+        }
 
-        // Send OTP via email
-        emailService.sendOtpEmail(email, otp);
+        // Send OTP via email; an OTP that never left must not hold back the next request
+        if (!emailService.sendPasswordResetOtp(email, otp.get())) {
+            otpService.withdraw(OtpPurpose.PASSWORD_RESET, email, otp.get());
+            return otpSendFailed();
+        }
         log.info("OTP sent successfully to {}", email);
 
         return ResponseEntity.ok(new ResponseDTO<>(AppConstants.STATUS_SUCCESS, "OTP sent successfully to your email.", null));
@@ -232,10 +241,11 @@ public class AuthService {
         String otp = request.getOtp();
         String newPassword = request.getNewPassword();
 
-        // Validate OTP
-        if (!otpStore.containsKey(email) || !otpStore.get(email).equals(otp)) {
-            log.warn("Invalid OTP attempt for email: {}", email);
-            return ResponseEntity.badRequest().body(new ResponseDTO<>(AppConstants.STATUS_FAILED, "Invalid OTP.", null));
+        // Validate OTP; a verified OTP is consumed
+        OtpVerification verification = otpService.verify(OtpPurpose.PASSWORD_RESET, email, otp);
+        if (verification != OtpVerification.VERIFIED) {
+            log.warn("OTP rejected ({}) for email: {}", verification, email);
+            return ResponseEntity.badRequest().body(new ResponseDTO<>(AppConstants.STATUS_FAILED, otpFailureMessage(verification), null));
         }
 
         Optional<User> userOptional = userRepository.findByEmail(email);
@@ -247,9 +257,7 @@ public class AuthService {
         // Encrypt new password and update user record
         User user = userOptional.get();
         try {
-            user.setPassword(aesUtils.encrypt(newPassword));
-            userRepository.save(user);
-            otpStore.remove(email);
+            userRepository.updatePassword(user.getUserId(), aesUtils.encrypt(newPassword));
             log.info("Password reset successfully for {}", email);
             return ResponseEntity.ok(new ResponseDTO<>(AppConstants.STATUS_SUCCESS, "Password reset successful.", null));
         } catch (Exception e) {
@@ -266,32 +274,35 @@ public class AuthService {
             return ResponseEntity.status(404).body(new ResponseDTO<>("FAILED", "User not found.", null));
         }
 
-        // Generate a 6-digit OTP
-        String otp = String.format("%06d", new Random().nextInt(999999));
-        otpStore.put(email, otp);
+        Optional<String> otp = otpService.issue(OtpPurpose.LOGIN, email);
+        if (otp.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(new ResponseDTO<>(AppConstants.STATUS_FAILED, AppConstants.ERROR_MESSAGE_OTP_COOLDOWN, null));
+        }
 
-        // Send OTP via email
-        emailService.sendOtpEmail(email, otp);
+        // Send OTP via email; an OTP that never left must not hold back the next request
+        if (!emailService.sendLoginOtp(email, otp.get())) {
+            otpService.withdraw(OtpPurpose.LOGIN, email, otp.get());
+            return otpSendFailed();
+        }
         log.info("Login OTP sent successfully to {}", email);
 
         return ResponseEntity.ok(new ResponseDTO<>(AppConstants.STATUS_SUCCESS, "OTP sent successfully to your email.", null));
     }
 
     public ResponseEntity<AuthResponse> verifyOtp(String email, String otp) {
-        // Validate OTP
-        if (!otpStore.containsKey(email) || !otpStore.get(email).equals(otp)) {
-            log.warn("Invalid OTP attempt for email: {}", email);
+        // Validate OTP; a verified OTP is consumed
+        OtpVerification verification = otpService.verify(OtpPurpose.LOGIN, email, otp);
+        if (verification != OtpVerification.VERIFIED) {
+            log.warn("OTP rejected ({}) for email: {}", verification, email);
             return ResponseEntity.badRequest()
                     .body(new AuthResponse(
                             null, null, null, null,
                             AppConstants.STATUS_FAILED,
-                            "Invalid OTP.",
+                            otpFailureMessage(verification),
                             null, null, null, null));
         }
 
-        // OTP verified successfully, remove from store
-        otpStore.remove(email);
-
         // Fetch user details
         Optional<User> optionalUser = userRepository.findByEmail(email);
         if (optionalUser.isEmpty()) {
@@ -327,10 +338,9 @@ public class AuthService {
                             null, user.getIsActive(), user.getLoginAttempts(), true));
         }
 
-        // Update last login time
+        // Last login time is written behind, in batches
         LocalDateTime now = LocalDateTime.now();
-        user.setLastLoginTime(now);
-        userRepository.save(user);
+        loginActivityRecorder.recordLogin(user.getUserId(), now);
 
         // Generate JWT token
         String token = jwtUtil.generateToken(user.getEmail());
@@ -352,4 +362,17 @@ public class AuthService {
                 ));
     }
 
-}
\ No newline at end of file
+    private static ResponseEntity<ResponseDTO<Void>> otpSendFailed() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ResponseDTO<>(AppConstants.STATUS_FAILED, AppConstants.ERROR_MESSAGE_OTP_SEND_FAILED, null));
+    }
+
+    private static String otpFailureMessage(OtpVerification verification) {
+        return switch (verification) {
+            case EXPIRED -> AppConstants.ERROR_MESSAGE_OTP_EXPIRED;
+            case TOO_MANY_ATTEMPTS -> AppConstants.ERROR_MESSAGE_OTP_ATTEMPTS;
+            default -> AppConstants.ERROR_MESSAGE_OTP_INVALID;
+        };
+    }
+
+}
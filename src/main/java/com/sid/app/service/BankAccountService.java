@@ -1,10 +1,13 @@
 package com.sid.app.service;
 
+import com.sid.app.config.PaginationProperties;
 import com.sid.app.entity.BankAccount;
 import com.sid.app.entity.User;
 import com.sid.app.model.BankAccountDTO;
+import com.sid.app.model.CursorPage;
 import com.sid.app.repository.BankAccountRepository;
 import com.sid.app.repository.UserRepository;
+import com.sid.app.utils.KeysetCursor;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +30,9 @@ public class BankAccountService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PaginationProperties paginationProperties;
+
     @Transactional
     public BankAccountDTO addBankAccount(BankAccountDTO bankAccountDTO) {
         log.info("Adding new bank account with account number: {}", bankAccountDTO.getAccountNumber());
@@ -89,12 +95,11 @@ public class BankAccountService {
     }
 
     @Transactional(readOnly = true)
-    public List<BankAccountDTO> getAllBankAccounts() {
-        List<BankAccount> accounts = bankAccountRepository.findAll();
-        return accounts.isEmpty() ? Collections.emptyList() :
-                accounts.stream()
-                        .map(this::mapToDTO)
-                        .collect(Collectors.toList());
+    public CursorPage<BankAccountDTO> getAllBankAccounts(String after, Integer limit) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        List<BankAccount> accounts = bankAccountRepository.findByBankAccountIdGreaterThanOrderByBankAccountIdAsc(
+                KeysetCursor.decode(after), KeysetCursor.probe(pageSize));
+        return KeysetCursor.page(accounts, pageSize, BankAccount::getBankAccountId, this::mapToDTO);
     }
 
     @Transactional
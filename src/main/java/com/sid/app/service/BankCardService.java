@@ -2,12 +2,17 @@ package com.sid.app.service;
 
 import com.sid.app.entity.BankAccount;
 import com.sid.app.entity.BankCard;
+import com.sid.app.config.PaginationProperties;
 import com.sid.app.model.BankCardDTO;
+import com.sid.app.model.CursorPage;
 import com.sid.app.model.enums.CardNetwork;
 import com.sid.app.model.enums.CardStatus;
 import com.sid.app.repository.BankAccountRepository;
 import com.sid.app.repository.BankCardRepository;
+import com.sid.app.repository.projection.BankCardSummary;
 import com.sid.app.utils.AESUtils;
+import com.sid.app.utils.EncryptedField;
+import com.sid.app.utils.KeysetCursor;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -25,10 +30,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BankCardService {
 
+    private static final String MASKED_CARD_NUMBER_PREFIX = "**** **** **** ";
+
     private final BankAccountRepository bankAccountRepository;
     private final BankCardRepository bankCardRepository;
     private final AESUtils aesUtils;
     private final EncryptionKeyService encryptionKeyService;
+    private final PaginationProperties paginationProperties;
 
     @Transactional
     public BankCardDTO addCard(BankCardDTO bankCardDTO) throws Exception {
@@ -180,31 +188,38 @@ public class BankCardService {
         List<BankCard> savedCards = bankCardRepository.saveAll(cardsToSave);
         log.info("Successfully saved {} bank cards in bulk", savedCards.size());
 
-        return savedCards.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(savedCards);
     }
 
-    public List<BankCardDTO> getAllCards() {
-        return bankCardRepository
-                .findAll()
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * Lists one page of cards in card ID order. Cards are read through {@link BankCardSummary}, so the
+     * encrypted columns are neither loaded nor decrypted and only the last four digits are returned;
+     * full details are revealed one card at a time through {@link #getCardById(Long)}.
+     */
+    public CursorPage<BankCardDTO> getAllCards(String after, Integer limit) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        long afterId = KeysetCursor.decode(after);
+        return KeysetCursor.page(
+                bankCardRepository.findSummariesAfter(afterId, KeysetCursor.probe(pageSize)),
+                pageSize, BankCardSummary::getBankCardId, this::convertToMaskedDTO);
     }
 
+    /**
+     * Lists the cards of a bank account, masked like {@link #getAllCards(String, Integer)}.
+     */
     public List<BankCardDTO> getCardsByBankAccountId(Long bankAccountId) {
         try {
             log.debug("Fetching cards for account ID: {}", bankAccountId);
-            List<BankCard> bankCards = bankCardRepository.findByBankAccount_BankAccountId(bankAccountId);
+            List<BankCardDTO> cards = bankCardRepository.findSummariesByBankAccountId(bankAccountId)
+                    .stream()
+                    .map(this::convertToMaskedDTO)
+                    .collect(Collectors.toList());
 
-            if (bankCards.isEmpty()) {
+            if (cards.isEmpty()) {
                 throw new EntityNotFoundException("No cards found for bank account ID: " + bankAccountId);
             }
 
-            return bankCards.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            return cards;
 
         } catch (DataAccessException e) {
             log.error("Database error while fetching cards for account ID {}: {}", bankAccountId, e.getMessage());
@@ -288,33 +303,91 @@ public class BankCardService {
     private BankCardDTO convertToDTO(BankCard bankCard) {
         try {
             Integer encryptionKeyVersion = bankCard.getEncryptionKeyVersion();
-            return BankCardDTO.builder()
-                    .cardId(bankCard.getBankCardId())
-                    .bankAccountId(bankCard.getBankAccount().getBankAccountId())  // Fixed method name
-                    .cardType(bankCard.getCardType())
-                    .cardNetwork(bankCard.getCardNetwork().name())
-                    .cardNumber(aesUtils.decrypt(bankCard.getCardNumber(), encryptionKeyVersion))
-                    .lastFourDigits(bankCard.getCardNumberLastFour())
-                    .cardHolderName(bankCard.getCardHolderName())
-                    .validFromDate(bankCard.getValidFromDate())
-                    .validThruDate(bankCard.getValidThruDate())
-                    .cardPin(aesUtils.decrypt(bankCard.getCardPin(), encryptionKeyVersion))
-                    .cvv(aesUtils.decrypt(bankCard.getCvv(), encryptionKeyVersion))
-                    .creditLimit(bankCard.getCreditLimit())
-                    .availableCredit(bankCard.getAvailableCredit())
-                    .billingCycleDay(bankCard.getBillingCycleDay())
-                    .cardStatus(CardStatus.valueOf(bankCard.getStatus().name()))  // Convert enum to string
-                    .isContactless(bankCard.getIsContactless())
-                    .isVirtual(bankCard.getIsVirtual())
-                    .remarks(bankCard.getRemarks())
-                    .encryptionKeyVersion(String.valueOf(encryptionKeyVersion))
-                    .build();
+            return convertToDTO(bankCard,
+                    aesUtils.decrypt(bankCard.getCardNumber(), encryptionKeyVersion),
+                    aesUtils.decrypt(bankCard.getCardPin(), encryptionKeyVersion),
+                    aesUtils.decrypt(bankCard.getCvv(), encryptionKeyVersion));
         } catch (Exception e) {
             log.error("Error decrypting card data for card ID: {}", bankCard.getBankCardId(), e);
             throw new RuntimeException("Error processing card data", e);
         }
     }
 
+    /**
+     * Converts a list of cards, decrypting card number, PIN and CVV of every card in one batch.
+     *
+     * @param bankCards The card entities.
+     * @return The card DTOs, in the same order.
+     */
+    private List<BankCardDTO> convertToDTOs(List<BankCard> bankCards) {
+        List<EncryptedField> encryptedFields = new ArrayList<>(bankCards.size() * 3);
+        for (BankCard bankCard : bankCards) {
+            int encryptionKeyVersion = bankCard.getEncryptionKeyVersion();
+            encryptedFields.add(new EncryptedField(bankCard.getCardNumber(), encryptionKeyVersion));
+            encryptedFields.add(new EncryptedField(bankCard.getCardPin(), encryptionKeyVersion));
+            encryptedFields.add(new EncryptedField(bankCard.getCvv(), encryptionKeyVersion));
+        }
+
+        List<String> plainTexts;
+        try {
+            plainTexts = aesUtils.decryptAll(encryptedFields);
+        } catch (Exception e) {
+            log.error("Error decrypting card data for {} cards", bankCards.size(), e);
+            throw new RuntimeException("Error processing card data", e);
+        }
+
+        List<BankCardDTO> cards = new ArrayList<>(bankCards.size());
+        for (int i = 0; i < bankCards.size(); i++) {
+            cards.add(convertToDTO(bankCards.get(i), plainTexts.get(i * 3), plainTexts.get(i * 3 + 1), plainTexts.get(i * 3 + 2)));
+        }
+        return cards;
+    }
+
+    private BankCardDTO convertToMaskedDTO(BankCardSummary summary) {
+        return BankCardDTO.builder()
+                .cardId(summary.getBankCardId())
+                .bankAccountId(summary.getBankAccountId())
+                .cardType(summary.getCardType())
+                .cardNetwork(summary.getCardNetwork().name())
+                .cardNumber(MASKED_CARD_NUMBER_PREFIX + summary.getCardNumberLastFour())
+                .lastFourDigits(summary.getCardNumberLastFour())
+                .cardHolderName(summary.getCardHolderName())
+                .validFromDate(summary.getValidFromDate())
+                .validThruDate(summary.getValidThruDate())
+                .creditLimit(summary.getCreditLimit())
+                .availableCredit(summary.getAvailableCredit())
+                .billingCycleDay(summary.getBillingCycleDay())
+                .cardStatus(summary.getStatus())
+                .isContactless(summary.getIsContactless())
+                .isVirtual(summary.getIsVirtual())
+                .remarks(summary.getRemarks())
+                .build();
+    }
+
+    private BankCardDTO convertToDTO(BankCard bankCard, String cardNumber, String cardPin, String cvv) {
+        return BankCardDTO.builder()
+                .cardId(bankCard.getBankCardId())
+                .bankAccountId(bankCard.getBankAccount().getBankAccountId())  // Fixed method name
+                .cardType(bankCard.getCardType())
+                .cardNetwork(bankCard.getCardNetwork().name())
+                .cardNumber(cardNumber)
+                .lastFourDigits(bankCard.getCardNumberLastFour())
+                .cardHolderName(bankCard.getCardHolderName())
+                .validFromDate(bankCard.getValidFromDate())
+                .validThruDate(bankCard.getValidThruDate())
+                .cardPin(cardPin)
+                .cvv(cvv)
+                .creditLimit(bankCard.getCreditLimit())
+                .availableCredit(bankCard.getAvailableCredit())
+                .billingCycleDay(bankCard.getBillingCycleDay())
+                .cardStatus(CardStatus.valueOf(bankCard.getStatus().name()))  // Convert enum to string
+                .isContactless(bankCard.getIsContactless())
+                .isVirtual(bankCard.getIsVirtual())
+                .remarks(bankCard.getRemarks())
+                .encryptionKeyVersion(String.valueOf(bankCard.getEncryptionKeyVersion()))
+                .build();
+    }
+
     private void validateCardDetails(BankCardDTO bankCardDTO) {
         // Basic validation logic
         if (bankCardDTO.getCardNumber() == null || bankCardDTO.getCardNumber().length() < 15) {
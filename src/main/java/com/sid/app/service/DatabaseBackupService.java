@@ -1,18 +1,23 @@
 package com.sid.app.service;
 
 import com.sid.app.config.DatabaseBackupProperties;
+import com.sid.app.config.ExecutionProperties;
 import com.sid.app.exception.DatabaseOperationException;
 import com.sid.app.exception.SchemaNotFoundException;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.*;
 import java.sql.*;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Executors;
 
 /**
  * Enhanced database backup service with database creation commands in backup files
@@ -22,14 +27,29 @@ import java.util.List;
 public class DatabaseBackupService {
 
     private final DatabaseBackupProperties databaseBackupProperties;
+    private final boolean virtualThreads;
+    private final Scheduler backupScheduler;
     private Connection adminConnection;
 
     @Autowired
-    public DatabaseBackupService(DatabaseBackupProperties databaseBackupProperties) {
+    public DatabaseBackupService(DatabaseBackupProperties databaseBackupProperties, ExecutionProperties executionProperties) {
         this.databaseBackupProperties = databaseBackupProperties;
+        // Backups hold no Hikari connection, so they stay off the request scheduler and its permits
+        this.virtualThreads = executionProperties.getMode() == ExecutionProperties.Mode.VIRTUAL;
+        this.backupScheduler = virtualThreads
+                ? Schedulers.fromExecutorService(
+                        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("backup-", 1).factory()), "backup")
+                : Schedulers.boundedElastic();
         initializeAdminConnection();
     }
 
+    @PreDestroy
+    private void disposeScheduler() {
+        if (virtualThreads) {
+            backupScheduler.dispose();
+        }
+    }
+
     private void initializeAdminConnection() {
         try {
             this.adminConnection = DriverManager.getConnection(
@@ -60,7 +80,7 @@ public class DatabaseBackupService {
 
                     return backupPath;
                 })
-                .subscribeOn(reactor.core.scheduler.Schedulers.boundedElastic());
+                .subscribeOn(backupScheduler);
     }
 
     /**
@@ -1,55 +1,96 @@
 package com.sid.app.service;
 
 import com.sid.app.config.AppProperties;
-import jakarta.mail.internet.MimeMessage;
+import com.sid.app.config.OtpProperties;
+import com.sid.app.constants.AppConstants;
+import com.sid.app.model.OutboundEmail;
+import com.sid.app.utils.EmailTemplateRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 /**
- * Email Service for sending OTP emails.
+ * Email Service for sending templated emails such as OTPs.
+ * Templates come from {@link EmailTemplateRegistry}; emails are handed to the {@link MailQueue} and delivered
+ * in the background, so callers never wait on SMTP.
  * <p>
  * Author: Siddhant Patni
  */
 @Service
 @Slf4j
 public class EmailService {
-    private final JavaMailSender mailSender;
+    private final MailQueue mailQueue;
+    private final EmailTemplateRegistry templates;
     private final AppProperties appProperties;
+    private final OtpProperties otpProperties;
 
-    public EmailService(JavaMailSender mailSender, AppProperties appProperties) {
-        this.mailSender = mailSender;
+    public EmailService(MailQueue mailQueue, EmailTemplateRegistry templates, AppProperties appProperties,
+                        OtpProperties otpProperties) {
+        this.mailQueue = mailQueue;
+        this.templates = templates;
         this.appProperties = appProperties;
+        this.otpProperties = otpProperties;
+    }
+
+    /**
+     * Queues the password reset OTP email.
+     *
+     * @param email Recipient email
+     * @param otp   Generated OTP
+     * @return {@code false} if the email could not be queued.
+     */
+    public boolean sendPasswordResetOtp(String email, String otp) {
+        return send(AppConstants.EMAIL_TEMPLATE_RESET_OTP, email, otpValues(email, otp), true);
     }
 
     /**
-     * Sends an OTP email with a dynamic HTML template.
+     * Queues the login OTP email.
      *
-     * @param email    Recipient email
-     * @param userName User's name
-     * @param otp      Generated OTP
+     * @param email Recipient email
+     * @param otp   Generated OTP
+     * @return {@code false} if the email could not be queued.
      */
-    public void sendOtpEmail(String email, String otp) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            // Load HTML template from application.yml
-            String emailBody = appProperties.getEmailBody()
-                    .replace("{EMAIL}", email)
-                    .replace("{OTP_CODE}", otp);
-
-            helper.setFrom(appProperties.getFromEmail());
-            helper.setTo(email);
-            helper.setSubject(appProperties.getEmailSubject());
-            helper.setText(emailBody, true); // Enable HTML
-
-            mailSender.send(message);
-            log.info("✅ OTP email sent successfully to {}", email);
-        } catch (Exception e) {
-            log.error("❌ Failed to send OTP email to {}: {}", email, e.getMessage());
+    public boolean sendLoginOtp(String email, String otp) {
+        return send(AppConstants.EMAIL_TEMPLATE_LOGIN_OTP, email, otpValues(email, otp), true);
+    }
+
+    /**
+     * Renders a named template and queues it.
+     *
+     * @param templateName The template name (e.g., "reset-otp").
+     * @param email        Recipient email
+     * @param values       Placeholder values by name
+     * @return {@code false} if the email could not be queued.
+     */
+    public boolean send(String templateName, String email, Map<String, String> values) {
+        return send(templateName, email, values, false);
+    }
+
+    /**
+     * Renders a named template and queues it; sensitive emails are kept out of the database spillover.
+     */
+    private boolean send(String templateName, String email, Map<String, String> values, boolean sensitive) {
+        EmailTemplateRegistry.CompiledTemplate template = templates.get(templateName);
+        OutboundEmail outboundEmail = OutboundEmail.of(appProperties.getFromEmail(), email,
+                template.subject().render(values), template.body().render(values));
+        if (sensitive) {
+            outboundEmail = outboundEmail.asSensitive();
         }
+
+        if (mailQueue.enqueue(outboundEmail)) {
+            log.info("✅ {} email queued for {}", templateName, email);
+            return true;
+        }
+        log.error("❌ Failed to queue {} email to {}", templateName, email);
+        return false;
+    }
+
+    private Map<String, String> otpValues(String email, String otp) {
+        return Map.of(
+                "EMAIL", email,
+                "OTP_CODE", otp,
+                "VALIDITY_MINUTES", Long.toString(otpProperties.getTtl().toMinutes()));
     }
 
-}
\ No newline at end of file
+}
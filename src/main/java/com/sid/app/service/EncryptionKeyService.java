@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -63,4 +64,13 @@ public class EncryptionKeyService {
         });
     }
 
+    /**
+     * Retrieves every stored encryption key version.
+     *
+     * @return All encryption keys.
+     */
+    public List<EncryptionKey> getAllKeys() {
+        return repository.findAll();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.sid.app.service;
+
+import com.sid.app.model.FuelExpenseDTO;
+import com.sid.app.model.VehicleServicingDTO;
+import com.sid.app.repository.ExportRepository;
+import com.sid.app.utils.BlockingExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streaming exports of fuel expense and servicing history for reporting.
+ * <p>
+ * The JDBC cursor is read on the blocking scheduler; every downstream request is also served there,
+ * so rows are only fetched as fast as the client consumes them. {@link ExportRepository} caps how many exports
+ * run at once and cancels exports whose client stops reading.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private final ExportRepository exportRepository;
+    private final BlockingExecutor blockingExecutor;
+
+    public Flux<FuelExpenseDTO> exportFuelExpenses(Long vehicleId) {
+        log.info("Exporting fuel expenses for vehicleId: {}", vehicleId != null ? vehicleId : "ALL");
+        return exportRepository.streamFuelExpenses(vehicleId)
+                .subscribeOn(blockingExecutor.getScheduler());
+    }
+
+    public Flux<VehicleServicingDTO> exportVehicleServices(Long vehicleId) {
+        log.info("Exporting vehicle services for vehicleId: {}", vehicleId != null ? vehicleId : "ALL");
+        return exportRepository.streamVehicleServices(vehicleId)
+                .subscribeOn(blockingExecutor.getScheduler());
+    }
+
+}
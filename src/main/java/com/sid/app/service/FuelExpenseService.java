@@ -1,18 +1,37 @@
 package com.sid.app.service;
 
+import com.sid.app.config.PaginationProperties;
 import com.sid.app.entity.FuelExpense;
 import com.sid.app.entity.Vehicle;
+import com.sid.app.model.BulkOperationResult;
+import com.sid.app.model.CursorPage;
+import com.sid.app.model.FuelAnalyticsDTO;
 import com.sid.app.model.FuelExpenseDTO;
+import com.sid.app.model.SpendDelta;
+import com.sid.app.model.enums.AnalyticsPeriod;
+import com.sid.app.repository.FuelAnalyticsRepository;
+import com.sid.app.repository.FuelExpenseJdbcRepository;
 import com.sid.app.repository.FuelExpenseRepository;
 import com.sid.app.repository.VehicleRepository;
+import com.sid.app.utils.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -31,12 +50,31 @@ public class FuelExpenseService {
     @Autowired
     private VehicleRepository vehicleRepository;
 
+    @Autowired
+    private PaginationProperties paginationProperties;
+
+    @Autowired
+    private FuelExpenseJdbcRepository fuelExpenseJdbcRepository;
+
+    @Autowired
+    private FuelAnalyticsRepository fuelAnalyticsRepository;
+
+    @Autowired
+    private MonthlySpendService monthlySpendService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.bulk.batch-size:500}")
+    private int bulkBatchSize;
+
     /**
      * Save a fuel expense entry.
      *
      * @param fuelExpenseDTO DTO containing fuel expense details
      * @return Saved fuel expense DTO
      */
+    @Transactional
     public FuelExpenseDTO saveFuelExpense(FuelExpenseDTO fuelExpenseDTO) {
         log.info("Saving new fuel expense: {}", fuelExpenseDTO);
 
@@ -55,16 +93,26 @@ public class FuelExpenseService {
 
         FuelExpense savedExpense = fuelExpenseRepository.save(fuelExpense);
         log.info("Fuel expense saved successfully with ID: {}", savedExpense.getFuelExpenseId());
+        monthlySpendService.apply(List.of(toSpendDelta(savedExpense)));
 
         return convertToDTO(savedExpense);
     }
 
+    @Transactional
     public List<FuelExpenseDTO> saveFuelExpenses(List<FuelExpenseDTO> fuelExpenseDTOList) {
         log.info("Saving multiple fuel expenses");
 
+        Map<Long, Vehicle> vehicles = vehicleRepository.findAllById(fuelExpenseDTOList.stream()
+                        .map(FuelExpenseDTO::getVehicleId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Vehicle::getVehicleId, Function.identity()));
+
         List<FuelExpense> fuelExpenses = fuelExpenseDTOList.stream().map(fuelExpenseDTO -> {
-            Vehicle vehicle = vehicleRepository.findById(fuelExpenseDTO.getVehicleId())
-                    .orElseThrow(() -> new EntityNotFoundException("Vehicle not found with ID: " + fuelExpenseDTO.getVehicleId()));
+            Vehicle vehicle = vehicles.get(fuelExpenseDTO.getVehicleId());
+            if (vehicle == null) {
+                throw new EntityNotFoundException("Vehicle not found with ID: " + fuelExpenseDTO.getVehicleId());
+            }
 
             FuelExpense fuelExpense = new FuelExpense();
             fuelExpense.setVehicle(vehicle);
@@ -81,6 +129,7 @@ public class FuelExpenseService {
 
         List<FuelExpense> savedExpenses = fuelExpenseRepository.saveAll(fuelExpenses);
         log.info("Fuel expenses saved successfully");
+        monthlySpendService.apply(savedExpenses.stream().map(this::toSpendDelta).collect(Collectors.toList()));
 
         return savedExpenses
                 .stream()
@@ -89,17 +138,130 @@ public class FuelExpenseService {
     }
 
     /**
-     * Retrieve all fuel expenses.
+     * Bulk import of fuel expenses.
+     * <p>
+     * Vehicles are resolved with a single query, invalid rows are rejected up front, and the rest are
+     * inserted through JDBC batches of {@code app.bulk.batch-size} rows, each batch in its own transaction.
+     * If a batch fails, it is retried row by row so only the offending rows are rejected.
      *
-     * @return List of fuel expense DTOs
+     * @param fuelExpenseDTOList Fuel expenses to import
+     * @return Counts and the rejected rows, by position in the request
      */
-    public List<FuelExpenseDTO> getAllFuelExpenses() {
-        log.info("Fetching all fuel expenses");
-        List<FuelExpense> expenses = fuelExpenseRepository.findAll();
-        return expenses
+    public BulkOperationResult<FuelExpenseDTO> importFuelExpenses(List<FuelExpenseDTO> fuelExpenseDTOList) {
+        log.info("Importing {} fuel expenses in batches of {}", fuelExpenseDTOList.size(), bulkBatchSize);
+
+        Set<Long> knownVehicleIds = vehicleRepository.findAllById(fuelExpenseDTOList.stream()
+                        .map(FuelExpenseDTO::getVehicleId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
                 .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+                .map(Vehicle::getVehicleId)
+                .collect(Collectors.toSet());
+
+        List<BulkOperationResult.RowError> errors = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < fuelExpenseDTOList.size(); i++) {
+            String error = validateForImport(fuelExpenseDTOList.get(i), knownVehicleIds);
+            if (error != null) {
+                errors.add(new BulkOperationResult.RowError(i, error));
+            } else {
+                validIndexes.add(i);
+            }
+        }
+
+        int batchSize = Math.max(1, bulkBatchSize);
+        for (int from = 0; from < validIndexes.size(); from += batchSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + batchSize, validIndexes.size()));
+            List<FuelExpenseDTO> rows = chunk.stream().map(fuelExpenseDTOList::get).collect(Collectors.toList());
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    fuelExpenseJdbcRepository.insertBatch(rows);
+                    monthlySpendService.apply(rows.stream().map(this::toSpendDelta).collect(Collectors.toList()));
+                });
+            } catch (DataAccessException e) {
+                log.warn("Batch of {} fuel expenses failed, retrying row by row: {}", rows.size(), e.getMessage());
+                for (int index : chunk) {
+                    FuelExpenseDTO row = fuelExpenseDTOList.get(index);
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> {
+                            fuelExpenseJdbcRepository.insert(row);
+                            monthlySpendService.apply(List.of(toSpendDelta(row)));
+                        });
+                    } catch (DataAccessException rowError) {
+                        errors.add(new BulkOperationResult.RowError(index, rowError.getMostSpecificCause().getMessage()));
+                    }
+                }
+            }
+        }
+
+        errors.sort(Comparator.comparingInt(BulkOperationResult.RowError::getIndex));
+        int failed = errors.size();
+        log.info("Fuel expense import finished: {} saved, {} rejected", fuelExpenseDTOList.size() - failed, failed);
+        return new BulkOperationResult<>(fuelExpenseDTOList.size(), fuelExpenseDTOList.size() - failed, failed, null, errors);
+    }
+
+    private String validateForImport(FuelExpenseDTO fuelExpenseDTO, Set<Long> knownVehicleIds) {
+        if (fuelExpenseDTO.getVehicleId() == null) {
+            return "vehicleId is required";
+        }
+        if (!knownVehicleIds.contains(fuelExpenseDTO.getVehicleId())) {
+            return "Vehicle not found with ID: " + fuelExpenseDTO.getVehicleId();
+        }
+        if (fuelExpenseDTO.getFuelFilledDate() == null || fuelExpenseDTO.getQuantity() == null || fuelExpenseDTO.getRate() == null
+                || fuelExpenseDTO.getAmount() == null || fuelExpenseDTO.getLocation() == null || fuelExpenseDTO.getPaymentMode() == null) {
+            return "fuelFilledDate, quantity, rate, amount, location and paymentMode are required";
+        }
+        return null;
+    }
+
+    /**
+     * Retrieve one page of fuel expenses, in fuel expense ID order.
+     *
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param limit Requested page size, or null for the default
+     * @return Page of fuel expense DTOs
+     */
+    public CursorPage<FuelExpenseDTO> getAllFuelExpenses(String after, Integer limit) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        long afterId = KeysetCursor.decode(after);
+        log.info("Fetching up to {} fuel expenses after ID {}", pageSize, afterId);
+        List<FuelExpense> expenses = fuelExpenseRepository.findByFuelExpenseIdGreaterThanOrderByFuelExpenseIdAsc(afterId, KeysetCursor.probe(pageSize));
+        return KeysetCursor.page(expenses, pageSize, FuelExpense::getFuelExpenseId, this::convertToDTO);
+    }
+
+    /**
+     * Fuel analytics of a vehicle, one row per period, aggregated by the database.
+     *
+     * @param vehicleId Vehicle ID
+     * @param period    Bucket size: week, month, quarter or year (defaults to month)
+     * @param from      First fill date to include (defaults to one year before {@code to})
+     * @param to        Last fill date to include (defaults to today)
+     * @return Litres, amount, average rate, distance, km/l and cost/km per period
+     */
+    public List<FuelAnalyticsDTO> getFuelAnalytics(Long vehicleId, String period, LocalDate from, LocalDate to) {
+        AnalyticsPeriod analyticsPeriod = parsePeriod(period);
+        LocalDate rangeEnd = to != null ? to : LocalDate.now();
+        LocalDate rangeStart = from != null ? from : rangeEnd.minusYears(1);
+        if (rangeStart.isAfter(rangeEnd)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'.");
+        }
+        if (!vehicleRepository.existsById(vehicleId)) {
+            throw new EntityNotFoundException("Vehicle not found with ID: " + vehicleId);
+        }
+
+        log.info("Fetching {} fuel analytics for vehicleId: {} from {} to {}", analyticsPeriod, vehicleId, rangeStart, rangeEnd);
+        return fuelAnalyticsRepository.findFuelAnalytics(vehicleId, analyticsPeriod, rangeStart, rangeEnd);
+    }
+
+    private AnalyticsPeriod parsePeriod(String period) {
+        if (period == null) {
+            return AnalyticsPeriod.MONTH;
+        }
+        try {
+            return AnalyticsPeriod.valueOf(period.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported period: " + period + ". Use one of week, month, quarter or year.");
+        }
     }
 
     /**
@@ -150,15 +312,27 @@ public class FuelExpenseService {
      *
      * @param id Fuel expense ID
      */
+    @Transactional
     public void deleteFuelExpense(Long id) {
         log.info("Deleting fuel expense with ID: {}", id);
         FuelExpense expense = fuelExpenseRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Fuel expense not found with ID: " + id));
 
         fuelExpenseRepository.delete(expense);
+        monthlySpendService.apply(List.of(toSpendDelta(expense).negate()));
         log.info("Fuel expense deleted successfully with ID: {}", id);
     }
 
+    private SpendDelta toSpendDelta(FuelExpense fuelExpense) {
+        return SpendDelta.fuel(fuelExpense.getVehicle().getVehicleId(), fuelExpense.getFuelFilledDate(),
+                fuelExpense.getAmount(), fuelExpense.getQuantity());
+    }
+
+    private SpendDelta toSpendDelta(FuelExpenseDTO fuelExpenseDTO) {
+        return SpendDelta.fuel(fuelExpenseDTO.getVehicleId(), fuelExpenseDTO.getFuelFilledDate(),
+                fuelExpenseDTO.getAmount(), fuelExpenseDTO.getQuantity());
+    }
+
     /**
      * Convert FuelExpense entity to DTO.
      *
@@ -0,0 +1,139 @@
+package com.sid.app.service;
+
+import com.sid.app.config.StockHistoryProperties;
+import com.sid.app.model.stock.CompactIndexSnapshot;
+import com.sid.app.model.stock.StockField;
+import com.sid.app.model.stock.StockResponseDTO;
+import com.sid.app.model.stock.SymbolDictionary;
+import com.sid.app.model.stock.SymbolHistoryDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Intraday history of NSE index snapshots, kept as {@link CompactIndexSnapshot}s in a fixed-size ring per index.
+ * <p>
+ * {@link StockMarketService} records every snapshot it fetches from NSE; snapshots with the same NSE timestamp
+ * as the latest one are skipped. Symbols are interned in one dictionary shared by all indices.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Service
+public class IndexHistoryService {
+
+    private final StockHistoryProperties properties;
+    private final SymbolDictionary dictionary = new SymbolDictionary();
+    private final Map<String, Ring> histories = new ConcurrentHashMap<>();
+
+    public IndexHistoryService(StockHistoryProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Adds a snapshot to the history of its index.
+     *
+     * @param index    The stock index the snapshot was fetched for.
+     * @param response The NSE response.
+     */
+    public void record(String index, StockResponseDTO response) {
+        String key = normalize(index);
+        Ring ring = histories.get(key);
+        if (ring == null) {
+            if (histories.size() >= properties.getMaxIndices()) {
+                log.debug("IndexHistoryService.record() : History full, not recording {}", key);
+                return;
+            }
+            ring = histories.computeIfAbsent(key, k -> new Ring(Math.max(1, properties.getCapacity())));
+        }
+        ring.add(CompactIndexSnapshot.from(response, dictionary, System.currentTimeMillis()));
+    }
+
+    /**
+     * Returns the recorded values of one field of one symbol, oldest first.
+     *
+     * @param index  The stock index (e.g., "NIFTY 50").
+     * @param symbol The symbol (e.g., "INFY").
+     * @param field  The NSE field name (e.g., "pChange").
+     * @return The symbol's history; empty if the index or symbol has none.
+     * @throws IllegalArgumentException if the field is not a numeric stock field.
+     */
+    public SymbolHistoryDTO history(String index, String symbol, String field) {
+        StockField stockField = StockField.fromFieldName(field);
+        String key = normalize(index);
+        String normalizedSymbol = symbol.trim().toUpperCase(Locale.ROOT);
+
+        Ring ring = histories.get(key);
+        int symbolId = dictionary.idOf(normalizedSymbol);
+        CompactIndexSnapshot[] snapshots = ring != null && symbolId >= 0 ? ring.toArray() : new CompactIndexSnapshot[0];
+
+        long[] timestamps = new long[snapshots.length];
+        double[] values = new double[snapshots.length];
+        int count = 0;
+        for (CompactIndexSnapshot snapshot : snapshots) {
+            int row = snapshot.rowOf(symbolId);
+            if (row >= 0) {
+                timestamps[count] = snapshot.getTimestampMillis();
+                values[count] = snapshot.value(stockField, row);
+                count++;
+            }
+        }
+
+        return SymbolHistoryDTO.builder()
+                .index(key)
+                .symbol(normalizedSymbol)
+                .field(stockField.getFieldName())
+                .timestamps(Arrays.copyOf(timestamps, count))
+                .values(Arrays.copyOf(values, count))
+                .build();
+    }
+
+    private static String normalize(String index) {
+        return index.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Fixed-capacity ring of snapshots; the oldest is overwritten once full.
+     */
+    private static final class Ring {
+
+        private final CompactIndexSnapshot[] slots;
+        private int next;
+        private int size;
+
+        Ring(int capacity) {
+            this.slots = new CompactIndexSnapshot[capacity];
+        }
+
+        synchronized void add(CompactIndexSnapshot snapshot) {
+            if (size > 0 && latest().getTimestampMillis() == snapshot.getTimestampMillis()) {
+                return;
+            }
+            slots[next] = snapshot;
+            next = (next + 1) % slots.length;
+            size = Math.min(size + 1, slots.length);
+        }
+
+        /**
+         * @return The snapshots, oldest first.
+         */
+        synchronized CompactIndexSnapshot[] toArray() {
+            CompactIndexSnapshot[] ordered = new CompactIndexSnapshot[size];
+            int start = (next - size + slots.length) % slots.length;
+            for (int i = 0; i < size; i++) {
+                ordered[i] = slots[(start + i) % slots.length];
+            }
+            return ordered;
+        }
+
+        private CompactIndexSnapshot latest() {
+            return slots[(next - 1 + slots.length) % slots.length];
+        }
+
+    }
+
+}
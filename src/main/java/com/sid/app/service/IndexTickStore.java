@@ -0,0 +1,454 @@
+package com.sid.app.service;
+
+import com.sid.app.config.TickStoreProperties;
+import com.sid.app.model.stock.CompactIndexSnapshot;
+import com.sid.app.model.stock.StockDataDTO;
+import com.sid.app.model.stock.StockResponseDTO;
+import com.sid.app.model.stock.SymbolDictionary;
+import com.sid.app.model.stock.TickDTO;
+import com.sid.app.utils.BlockingExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Append-only, memory-mapped store of every polled index snapshot, kept for charting.
+ * <p>
+ * Each index has one file per IST trading day ({@code <directory>/NIFTY_50/2026-10-17.tick}): a 32-byte header
+ * followed by fixed-width 40-byte big-endian records of
+ * {@code timestamp (long, epoch millis) | symbolId (int) | reserved (int) | lastPrice (double) | change (double) | volume (long)}.
+ * Records are only appended in timestamp order, so a range is located by binary search and served as a slice of
+ * the mapping without copying. A 50-symbol index polled every 5 seconds through a trading day is about 9 MB.
+ * Reads span at most {@code max-range-days} days, and mappings of past days are kept for reuse, since those
+ * files no longer change.
+ * <p>
+ * Symbol ids are shared by all indices and persisted in {@code symbols.txt} (line number = id), so they stay
+ * stable across restarts. The header's record count is written after the records, so a crash mid-append
+ * only loses the snapshot being written.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Service
+public class IndexTickStore {
+
+    public static final int RECORD_SIZE = 40;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int MAGIC = 0x5449434B; // "TICK"
+    private static final int VERSION = 1;
+    private static final int COUNT_OFFSET = 16;
+    private static final ZoneId NSE_ZONE = ZoneId.of("Asia/Kolkata");
+    private static final String SYMBOLS_FILE = "symbols.txt";
+    private static final String TICK_FILE_SUFFIX = ".tick";
+
+    private final TickStoreProperties properties;
+    private final BlockingExecutor blockingExecutor;
+    private final Path root;
+    private final SymbolDictionary symbols = new SymbolDictionary();
+    private final Map<String, DayFile> writers = new ConcurrentHashMap<>();
+    private final Map<Path, ByteBuffer> mappedDays;
+
+    public IndexTickStore(TickStoreProperties properties, BlockingExecutor blockingExecutor) {
+        this.properties = properties;
+        this.blockingExecutor = blockingExecutor;
+        this.root = Paths.get(properties.getDirectory()).toAbsolutePath();
+        int mappedFiles = Math.max(1, properties.getMappedFiles());
+        this.mappedDays = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, ByteBuffer> eldest) {
+                return size() > mappedFiles;
+            }
+        };
+    }
+
+    @PostConstruct
+    void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            Files.createDirectories(root);
+            Path symbolsFile = root.resolve(SYMBOLS_FILE);
+            if (Files.exists(symbolsFile)) {
+                Files.readAllLines(symbolsFile, StandardCharsets.UTF_8).forEach(symbols::intern);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open tick store at " + root, e);
+        }
+        log.info("Tick store opened at {} with {} known symbol(s).", root, symbols.size());
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        writers.values().forEach(DayFile::close);
+        writers.clear();
+        mappedDays.clear();
+    }
+
+    /**
+     * Appends a snapshot to its index's day file on the blocking scheduler. Failures are logged, never
+     * propagated, so a full disk cannot break quote delivery.
+     *
+     * @param index    The stock index the snapshot was fetched for.
+     * @param response The NSE response.
+     */
+    public void record(String index, StockResponseDTO response) {
+        if (!properties.isEnabled() || response.getData() == null) {
+            return;
+        }
+        blockingExecutor.execute(() -> append(index, response))
+                .subscribe(
+                        written -> log.debug("record() : Stored {} tick(s) for {}", written, index),
+                        ex -> log.warn("record() : Failed to store ticks for {}: {}", index, ex.getMessage()));
+    }
+
+    /**
+     * Streams the stored ticks of one symbol between two instants, oldest first.
+     *
+     * @param index  The stock index (e.g., "NIFTY 50").
+     * @param symbol The symbol (e.g., "INFY").
+     * @param from   Start of the range, epoch millis (inclusive); moved up to the first of the last
+     *               {@code max-range-days} days before {@code to}.
+     * @param to     End of the range, epoch millis (inclusive).
+     * @return Flux of ticks; empty if the symbol was never stored.
+     * @throws IllegalArgumentException if {@code from} is after {@code to}.
+     */
+    public Flux<TickDTO> scan(String index, String symbol, long from, long to) {
+        long start = clampStart(from, to);
+        String normalizedSymbol = symbol.trim().toUpperCase(Locale.ROOT);
+        int symbolId = symbols.idOf(normalizedSymbol);
+        if (symbolId < 0) {
+            return Flux.empty();
+        }
+        return Flux.fromIterable(days(start, to))
+                .concatMapIterable(day -> {
+                    ByteBuffer records = slice(slug(index), day, start, to);
+                    List<TickDTO> ticks = new ArrayList<>();
+                    for (int offset = 0; offset < records.limit(); offset += RECORD_SIZE) {
+                        if (records.getInt(offset + 8) == symbolId) {
+                            ticks.add(TickDTO.builder()
+                                    .symbol(normalizedSymbol)
+                                    .timestamp(records.getLong(offset))
+                                    .lastPrice(records.getDouble(offset + 16))
+                                    .change(records.getDouble(offset + 24))
+                                    .volume(records.getLong(offset + 32))
+                                    .build());
+                        }
+                    }
+                    return ticks;
+                })
+                .subscribeOn(blockingExecutor.getScheduler());
+    }
+
+    /**
+     * Streams the raw records of all symbols between two instants, one read-only slice of the file mapping
+     * per day. Symbol ids resolve through {@link #symbols()}. Pass the response's buffer factory: on Reactor
+     * Netty it wraps the slices as Netty buffers, which go to the socket without being copied.
+     *
+     * @param index         The stock index (e.g., "NIFTY 50").
+     * @param from          Start of the range, epoch millis (inclusive); clamped like {@link #scan}.
+     * @param to            End of the range, epoch millis (inclusive).
+     * @param bufferFactory Factory that wraps the slices.
+     * @return Flux of buffers holding whole {@value #RECORD_SIZE}-byte records.
+     * @throws IllegalArgumentException if {@code from} is after {@code to}.
+     */
+    public Flux<DataBuffer> scanRaw(String index, long from, long to, DataBufferFactory bufferFactory) {
+        long start = clampStart(from, to);
+        return Flux.fromIterable(days(start, to))
+                .map(day -> slice(slug(index), day, start, to))
+                .filter(ByteBuffer::hasRemaining)
+                .map(bufferFactory::wrap)
+                .subscribeOn(blockingExecutor.getScheduler());
+    }
+
+    /**
+     * @return The stored symbols; the position of a symbol is its id in the raw records.
+     */
+    public List<String> symbols() {
+        List<String> table = new ArrayList<>(symbols.size());
+        for (int id = 0; id < symbols.size(); id++) {
+            table.add(symbols.symbolOf(id));
+        }
+        return table;
+    }
+
+    private int append(String index, StockResponseDTO response) throws IOException {
+        long timestamp = CompactIndexSnapshot.parseMillis(response.getTimestamp(), System.currentTimeMillis());
+        DayFile file = writer(slug(index), dayOf(timestamp));
+        return file != null ? file.append(timestamp, response.getData(), this::symbolId) : 0;
+    }
+
+    /**
+     * Returns the open file of the day, rolling over from the previous day. Snapshots older than the open
+     * day are dropped, since files are append-only.
+     */
+    private synchronized DayFile writer(String slug, LocalDate day) throws IOException {
+        DayFile current = writers.get(slug);
+        if (current != null && !current.day.isBefore(day)) {
+            return current.day.equals(day) ? current : null;
+        }
+        Path path = dayPath(slug, day);
+        mappedDays.remove(path);
+        DayFile opened = DayFile.open(path, day, Math.max(1, properties.getGrowthRecords()));
+        writers.put(slug, opened);
+        if (current != null) {
+            current.close();
+        }
+        return opened;
+    }
+
+    private int symbolId(String symbol) {
+        int id = symbols.idOf(symbol);
+        if (id >= 0) {
+            return id;
+        }
+        synchronized (symbols) {
+            id = symbols.idOf(symbol);
+            if (id >= 0) {
+                return id;
+            }
+            try {
+                Files.writeString(root.resolve(SYMBOLS_FILE), symbol + System.lineSeparator(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return symbols.intern(symbol);
+        }
+    }
+
+    /**
+     * Returns the committed records of one day whose timestamps fall in {@code [from, to]}.
+     */
+    private ByteBuffer slice(String slug, LocalDate day, long from, long to) {
+        ByteBuffer records = records(slug, day);
+        int count = records.limit() / RECORD_SIZE;
+        int start = lowerBound(records, count, from);
+        int end = lowerBound(records, count, to == Long.MAX_VALUE ? to : to + 1);
+        return records.slice(start * RECORD_SIZE, (end - start) * RECORD_SIZE).asReadOnlyBuffer();
+    }
+
+    private ByteBuffer records(String slug, LocalDate day) {
+        DayFile writer = writers.get(slug);
+        if (writer != null && writer.day.equals(day)) {
+            return writer.committed();
+        }
+        Path path = dayPath(slug, day);
+        if (!Files.exists(path)) {
+            return ByteBuffer.allocate(0);
+        }
+        // Under the store lock, so a day reopened for writing by writer() is never cached with a stale count
+        synchronized (this) {
+            writer = writers.get(slug);
+            if (writer != null && writer.day.equals(day)) {
+                return writer.committed();
+            }
+            ByteBuffer mapped = mappedDays.get(path);
+            if (mapped == null) {
+                mapped = map(path);
+                if (day.isBefore(LocalDate.now(NSE_ZONE))) {
+                    mappedDays.put(path, mapped);
+                }
+            }
+            return mapped;
+        }
+    }
+
+    private static ByteBuffer map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                return ByteBuffer.allocate(0);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            long count = DayFile.checkHeader(header, path);
+            return channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, count * RECORD_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return The first record whose timestamp is at least {@code timestamp}.
+     */
+    private static int lowerBound(ByteBuffer records, int count, long timestamp) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (records.getLong(mid * RECORD_SIZE) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return {@code from}, moved up to the start of the first of the last {@code max-range-days} days of the range.
+     * @throws IllegalArgumentException if {@code from} is after {@code to}.
+     */
+    private long clampStart(long from, long to) {
+        if (from > to) {
+            throw new IllegalArgumentException("Range start must not be after its end.");
+        }
+        LocalDate firstDay = dayOf(to).minusDays(Math.max(1, properties.getMaxRangeDays()) - 1L);
+        return Math.max(from, firstDay.atStartOfDay(NSE_ZONE).toInstant().toEpochMilli());
+    }
+
+    private static List<LocalDate> days(long from, long to) {
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = dayOf(from), last = dayOf(to); !day.isAfter(last); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        return days;
+    }
+
+    private static LocalDate dayOf(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(NSE_ZONE).toLocalDate();
+    }
+
+    private static String slug(String index) {
+        return index.trim().toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]+", "_");
+    }
+
+    private Path dayPath(String slug, LocalDate day) {
+        return root.resolve(slug).resolve(day + TICK_FILE_SUFFIX);
+    }
+
+    /**
+     * The writable file of one index and day. Appends are serialized; readers take the published record
+     * count and mapping, which are written after the records, and never see a partial snapshot.
+     */
+    private static final class DayFile {
+
+        private final LocalDate day;
+        private final FileChannel channel;
+        private final int growthRecords;
+        private volatile MappedByteBuffer buffer;
+        private volatile int count;
+        private long lastTimestamp;
+
+        private DayFile(LocalDate day, FileChannel channel, MappedByteBuffer buffer, int count, int growthRecords) {
+            this.day = day;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.count = count;
+            this.growthRecords = growthRecords;
+            this.lastTimestamp = count > 0 ? buffer.getLong(HEADER_SIZE + (count - 1) * RECORD_SIZE) : Long.MIN_VALUE;
+        }
+
+        static DayFile open(Path path, LocalDate day, int growthRecords) throws IOException {
+            Files.createDirectories(path.getParent());
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            try {
+                boolean fresh = channel.size() < HEADER_SIZE;
+                long size = Math.max(channel.size(), HEADER_SIZE + (long) growthRecords * RECORD_SIZE);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                if (fresh) {
+                    buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, RECORD_SIZE).putLong(COUNT_OFFSET, 0L);
+                }
+                return new DayFile(day, channel, buffer, (int) checkHeader(buffer, path), growthRecords);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        /**
+         * @return The record count in the header.
+         * @throws IOException if the file is not a tick file of this version.
+         */
+        static long checkHeader(ByteBuffer header, Path path) throws IOException {
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(8) != RECORD_SIZE) {
+                throw new IOException("Not a tick file: " + path);
+            }
+            return header.getLong(COUNT_OFFSET);
+        }
+
+        synchronized int append(long timestamp, List<StockDataDTO> rows, ToIntFunction<String> symbolIds) throws IOException {
+            if (timestamp <= lastTimestamp) {
+                return 0;
+            }
+            MappedByteBuffer target = ensureCapacity(count + rows.size());
+            int next = count;
+            for (StockDataDTO row : rows) {
+                if (row.getSymbol() == null) {
+                    continue;
+                }
+                int offset = HEADER_SIZE + next * RECORD_SIZE;
+                target.putLong(offset, timestamp)
+                        .putInt(offset + 8, symbolIds.applyAsInt(row.getSymbol()))
+                        .putInt(offset + 12, 0)
+                        .putDouble(offset + 16, row.getLastPrice())
+                        .putDouble(offset + 24, row.getChange())
+                        .putLong(offset + 32, (long) row.getTotalTradedVolume());
+                next++;
+            }
+            target.putLong(COUNT_OFFSET, next);
+            int written = next - count;
+            lastTimestamp = timestamp;
+            count = next;
+            return written;
+        }
+
+        /**
+         * @return A read-only view of the records appended so far.
+         */
+        ByteBuffer committed() {
+            int committed = count;
+            return buffer.slice(HEADER_SIZE, committed * RECORD_SIZE).asReadOnlyBuffer();
+        }
+
+        synchronized void close() {
+            try {
+                buffer.force();
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close tick file for {}: {}", day, e.getMessage());
+            }
+        }
+
+        /**
+         * Remaps the file with room for at least {@code records} records. The previous mapping stays valid
+         * for readers still holding it.
+         */
+        private MappedByteBuffer ensureCapacity(int records) throws IOException {
+            long required = HEADER_SIZE + (long) records * RECORD_SIZE;
+            if (required > buffer.capacity()) {
+                long size = buffer.capacity() + (long) Math.max(growthRecords, records - count) * RECORD_SIZE;
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+            return buffer;
+        }
+
+    }
+
+}
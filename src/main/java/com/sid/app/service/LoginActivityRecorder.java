@@ -0,0 +1,90 @@
+package com.sid.app.service;
+
+import com.sid.app.repository.LoginActivityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind recorder of successful logins.
+ * <p>
+ * Logins only update an in-memory map of user ID to latest login time; repeated logins of the same user between
+ * flushes coalesce into one entry. Every {@code app.login-activity.flush-interval} the pending entries are
+ * written as one batched UPDATE, and failed flushes are merged back for the next run. Failed attempts and
+ * lockouts are not handled here; {@link AuthService} persists them synchronously.
+ * <p>
+ * A crash loses at most one interval of last-login times. The pending count is published as
+ * {@code login.activity.pending}.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Service
+public class LoginActivityRecorder {
+
+    private final LoginActivityRepository loginActivityRepository;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public LoginActivityRecorder(LoginActivityRepository loginActivityRepository, MeterRegistry meterRegistry) {
+        this.loginActivityRepository = loginActivityRepository;
+        meterRegistry.gaugeMapSize("login.activity.pending", Tags.empty(), pending);
+    }
+
+    /**
+     * Records a successful login, to be written with the next flush.
+     */
+    public void recordLogin(Long userId, LocalDateTime loginTime) {
+        pending.merge(userId, loginTime, LoginActivityRecorder::latest);
+    }
+
+    /**
+     * @return The login time recorded for the user but not yet flushed, if any.
+     */
+    public Optional<LocalDateTime> pendingLastLogin(Long userId) {
+        return Optional.ofNullable(pending.get(userId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.login-activity.flush-interval:PT5S}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loginTime = pending.remove(userId);
+            if (loginTime != null) {
+                batch.put(userId, loginTime);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            loginActivityRepository.updateLastLogins(batch);
+            log.debug("flush() : Wrote last-login time of {} user(s)", batch.size());
+        } catch (RuntimeException e) {
+            batch.forEach((userId, loginTime) -> pending.merge(userId, loginTime, LoginActivityRecorder::latest));
+            log.warn("flush() : Failed to write {} last-login time(s), retrying on the next flush: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    private void flushOnShutdown() {
+        flush();
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+}
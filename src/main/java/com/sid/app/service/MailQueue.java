@@ -0,0 +1,294 @@
+package com.sid.app.service;
+
+import com.sid.app.config.MailQueueProperties;
+import com.sid.app.model.OutboundEmail;
+import com.sid.app.repository.OutboundEmailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbound mail queue, so request threads never wait on SMTP.
+ * <p>
+ * {@link #enqueue} only offers the email to a bounded in-memory queue. Worker threads drain it in batches and
+ * send each batch through one {@link JavaMailSender#send(MimeMessage...)} call, which opens a single SMTP
+ * connection for the whole batch. Failed emails are retried with exponential backoff up to
+ * {@code app.mail.max-attempts}. With {@code app.mail.spillover} on, emails that do not fit, or are still
+ * queued or waiting for a retry at shutdown, are written to the {@code outbound_email} table and fed back in
+ * as the queue drains. Sensitive emails (OTPs) are never spilled: they are rejected instead, and the user can
+ * request a new code.
+ * <p>
+ * Metrics: {@code mail.delivery} counted by result, {@code mail.send.batch} timing and {@code mail.queue.size}.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Service
+public class MailQueue {
+
+    private static final String DELIVERY_METRIC = "mail.delivery";
+
+    private final JavaMailSender mailSender;
+    private final MailQueueProperties properties;
+    private final OutboundEmailRepository spillRepository;
+    private final BlockingQueue<OutboundEmail> queue;
+    private final ScheduledExecutorService retryScheduler;
+    // Emails waiting for their retry, by ticket; whoever removes an entry owns the email
+    private final Map<Long, OutboundEmail> pendingRetries = new ConcurrentHashMap<>();
+    private final AtomicLong retryTickets = new AtomicLong();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Counter spilled;
+    private final Timer batchTimer;
+
+    public MailQueue(JavaMailSender mailSender, MailQueueProperties properties, OutboundEmailRepository spillRepository,
+                     MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.spillRepository = spillRepository;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sent = deliveryCounter(meterRegistry, "sent");
+        this.retried = deliveryCounter(meterRegistry, "retried");
+        this.failed = deliveryCounter(meterRegistry, "failed");
+        this.rejected = deliveryCounter(meterRegistry, "rejected");
+        this.spilled = deliveryCounter(meterRegistry, "spilled");
+        this.batchTimer = Timer.builder("mail.send.batch")
+                .description("Time to send one batch over one SMTP connection")
+                .register(meterRegistry);
+        meterRegistry.gauge("mail.queue.size", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        running = true;
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            Thread worker = new Thread(this::runWorker, "mail-sender-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("Mail queue started with {} worker(s), capacity {}", workers.size(), properties.getCapacity());
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        retryScheduler.awaitTermination(10, TimeUnit.SECONDS);
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        workers.clear();
+
+        // Workers and the retry thread are done, so no email moves between the queue and the retries any more
+        List<OutboundEmail> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (Long ticket : List.copyOf(pendingRetries.keySet())) {
+            OutboundEmail email = pendingRetries.remove(ticket);
+            if (email != null) {
+                remaining.add(email);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return;
+        }
+
+        List<OutboundEmail> spillable = properties.isSpillover()
+                ? remaining.stream().filter(email -> !email.sensitive()).toList()
+                : List.of();
+        if (!spillable.isEmpty()) {
+            spillRepository.insertAll(spillable);
+            spilled.increment(spillable.size());
+            log.info("Mail queue stopped, {} pending email(s) saved for the next start", spillable.size());
+        }
+        int dropped = remaining.size() - spillable.size();
+        if (dropped > 0) {
+            rejected.increment(dropped);
+            log.warn("Mail queue stopped, {} pending email(s) dropped", dropped);
+        }
+    }
+
+    /**
+     * Queues an email for delivery without waiting for the mail server.
+     *
+     * @param email The email.
+     * @return {@code false} if the queue is full and the email could not be spilled to the database.
+     */
+    public boolean enqueue(OutboundEmail email) {
+        if (queue.offer(email)) {
+            return true;
+        }
+        if (properties.isSpillover() && !email.sensitive()) {
+            try {
+                spillRepository.insert(email);
+                spilled.increment();
+                return true;
+            } catch (RuntimeException e) {
+                log.error("Failed to spill email to {}: {}", email.to(), e.getMessage());
+            }
+        }
+        rejected.increment();
+        log.error("Mail queue full, dropping email to {}", email.to());
+        return false;
+    }
+
+    /**
+     * Moves spilled emails back into the queue while it has room.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.spill-drain-interval:PT5S}")
+    public void drainSpillover() {
+        if (!properties.isSpillover() || !running) {
+            return;
+        }
+        int room = queue.remainingCapacity() - properties.getBatchSize();
+        if (room <= 0) {
+            return;
+        }
+        for (OutboundEmail email : spillRepository.claim(room)) {
+            if (!queue.offer(email)) {
+                spillRepository.insert(email);
+            }
+        }
+    }
+
+    private void runWorker() {
+        List<OutboundEmail> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            try {
+                OutboundEmail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, Math.max(0, properties.getBatchSize() - 1));
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected mail worker error: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<OutboundEmail> batch) {
+        Map<MimeMessage, OutboundEmail> messages = new LinkedHashMap<>();
+        for (OutboundEmail email : batch) {
+            try {
+                messages.put(toMimeMessage(email), email);
+            } catch (MessagingException e) {
+                failed.increment();
+                log.error("Dropping malformed email to {}: {}", email.to(), e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            sent.increment(messages.size());
+            log.debug("Sent {} email(s)", messages.size());
+        } catch (MailSendException e) {
+            // Connection failures list every message as failed, per-message failures only the rejected ones;
+            // without any detail nothing is known to have been sent
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            messages.forEach((message, email) -> {
+                if (failedMessages.isEmpty() || failedMessages.containsKey(message)) {
+                    retryOrFail(email, failedMessages.getOrDefault(message, e));
+                } else {
+                    sent.increment();
+                }
+            });
+        } catch (MailException e) {
+            messages.values().forEach(email -> retryOrFail(email, e));
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    private void retryOrFail(OutboundEmail email, Exception cause) {
+        OutboundEmail next = email.nextAttempt();
+        if (next.attempts() >= properties.getMaxAttempts()) {
+            failed.increment();
+            log.error("Giving up on email to {} after {} attempt(s): {}", email.to(), next.attempts(), cause.getMessage());
+            return;
+        }
+        long backoff = Math.min(properties.getMaxBackoff().toMillis(),
+                properties.getInitialBackoff().toMillis() << Math.min(next.attempts() - 1, 20));
+        retried.increment();
+        log.warn("Email to {} failed (attempt {}), retrying in {} ms: {}", email.to(), next.attempts(), backoff, cause.getMessage());
+
+        // Parked before scheduling, so stop() still finds the email if the scheduler has already shut down
+        long ticket = retryTickets.incrementAndGet();
+        pendingRetries.put(ticket, next);
+        if (!running) {
+            return;
+        }
+        try {
+            retryScheduler.schedule(() -> {
+                OutboundEmail due = pendingRetries.remove(ticket);
+                if (due != null) {
+                    enqueue(due);
+                }
+            }, backoff, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Mail queue stopping, email to {} is left for shutdown", email.to());
+        }
+    }
+
+    private MimeMessage toMimeMessage(OutboundEmail email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(email.from());
+        helper.setTo(email.to());
+        helper.setSubject(email.subject());
+        helper.setText(email.htmlBody(), true);
+        return message;
+    }
+
+    private static Counter deliveryCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(DELIVERY_METRIC)
+                .description("Outbound emails by delivery result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.sid.app.service;
+
+import com.sid.app.model.MonthlySpendDTO;
+import com.sid.app.model.SpendDelta;
+import com.sid.app.repository.MonthlySpendRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the monthly fuel and servicing spend rollup and serves dashboard totals from it.
+ * <p>
+ * The fuel expense and servicing services pass a {@link SpendDelta} for every record they insert or delete,
+ * inside the same transaction, so the rollup commits or rolls back together with the records. A nightly
+ * job rebuilds the rollup from scratch to repair any drift (e.g. rows changed outside the application).
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Service
+@Slf4j
+public class MonthlySpendService {
+
+    private static final int DEFAULT_MONTHS = 12;
+
+    @Autowired
+    private MonthlySpendRepository monthlySpendRepository;
+
+    /**
+     * Applies the deltas to the rollup. Deltas for the same vehicle and month are merged first, and rows
+     * are updated in (vehicle, month) order so concurrent batches lock them in the same order.
+     *
+     * @param deltas Changes caused by the records written in the current transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Collection<SpendDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<String, SpendDelta> merged = new LinkedHashMap<>();
+        for (SpendDelta delta : deltas) {
+            merged.merge(delta.vehicleId() + ":" + delta.month(), delta, SpendDelta::plus);
+        }
+        List<SpendDelta> ordered = new ArrayList<>(merged.values());
+        ordered.sort(Comparator.comparing(SpendDelta::vehicleId).thenComparing(SpendDelta::month));
+        monthlySpendRepository.applyDeltas(ordered);
+    }
+
+    /**
+     * Rebuilds the rollup from the fuel expense and servicing tables.
+     */
+    @Scheduled(cron = "${app.rollup.reconcile-cron:0 30 2 * * *}")
+    @Transactional
+    public void reconcile() {
+        log.info("reconcile() : Rebuilding monthly spend rollup");
+        int rows = monthlySpendRepository.rebuild();
+        log.info("reconcile() : Monthly spend rollup rebuilt with {} rows", rows);
+    }
+
+    /**
+     * Monthly totals of a vehicle, or of all vehicles of a user, between two months inclusive.
+     *
+     * @param vehicleId Vehicle ID (either this or userId)
+     * @param userId    User ID (either this or vehicleId)
+     * @param from      First month (defaults to eleven months before {@code to})
+     * @param to        Last month (defaults to the current month)
+     * @return One entry per month with any spend
+     */
+    public List<MonthlySpendDTO> getMonthlySpend(Long vehicleId, Long userId, YearMonth from, YearMonth to) {
+        if ((vehicleId == null) == (userId == null)) {
+            throw new IllegalArgumentException("Exactly one of vehicleId or userId must be provided");
+        }
+        YearMonth lastMonth = to != null ? to : YearMonth.now();
+        YearMonth firstMonth = from != null ? from : lastMonth.minusMonths(DEFAULT_MONTHS - 1);
+        if (firstMonth.isAfter(lastMonth)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'.");
+        }
+
+        log.info("getMonthlySpend() : Fetching monthly spend for vehicleId: {}, userId: {} from {} to {}", vehicleId, userId, firstMonth, lastMonth);
+        return vehicleId != null
+                ? monthlySpendRepository.findByVehicle(vehicleId, firstMonth, lastMonth)
+                : monthlySpendRepository.findByUser(userId, firstMonth, lastMonth);
+    }
+
+}
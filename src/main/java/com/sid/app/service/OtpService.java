@@ -0,0 +1,105 @@
+package com.sid.app.service;
+
+import com.sid.app.auth.OtpStore;
+import com.sid.app.config.OtpProperties;
+import com.sid.app.model.enums.OtpPurpose;
+import com.sid.app.model.enums.OtpVerification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Issues and verifies the OTPs sent for login and password reset.
+ * <p>
+ * OTPs come from a {@link SecureRandom} and only their SHA-256 hash is kept in the configured {@link OtpStore}
+ * ({@code app.otp.store}). Each email gets at most one OTP per purpose and cooldown, and a limited number of wrong
+ * guesses per purpose that carries over to new OTPs, so requesting another OTP does not buy more guesses.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OtpService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final OtpStore otpStore;
+    private final OtpProperties properties;
+
+    /**
+     * Generates and stores a new OTP.
+     *
+     * @param purpose What the OTP is for.
+     * @param email   The user's email.
+     * @return The OTP to send, or empty if the previous one was issued less than the resend cooldown ago.
+     */
+    public Optional<String> issue(OtpPurpose purpose, String email) {
+        String normalizedEmail = normalize(email);
+        int bound = (int) Math.pow(10, properties.getLength());
+        String otp = String.format("%0" + properties.getLength() + "d", RANDOM.nextInt(bound));
+
+        if (!otpStore.save(purpose, normalizedEmail, hash(purpose, normalizedEmail, otp), properties.getTtl(),
+                properties.getResendCooldown())) {
+            log.warn("issue() : OTP requested again within the cooldown for email: {}", email);
+            return Optional.empty();
+        }
+        return Optional.of(otp);
+    }
+
+    /**
+     * Verifies an OTP; a verified OTP is consumed and cannot be used again.
+     *
+     * @param purpose What the OTP is for.
+     * @param email   The user's email.
+     * @param otp     The OTP entered by the user.
+     * @return The verification outcome.
+     */
+    public OtpVerification verify(OtpPurpose purpose, String email, String otp) {
+        if (email == null || otp == null) {
+            return OtpVerification.INVALID;
+        }
+        String normalizedEmail = normalize(email);
+        return otpStore.verify(purpose, normalizedEmail, hash(purpose, normalizedEmail, otp.trim()),
+                properties.getMaxAttempts(), properties.getLockout());
+    }
+
+    /**
+     * Withdraws an OTP that could not be sent, so the user can request another one straight away.
+     *
+     * @param purpose What the OTP is for.
+     * @param email   The user's email.
+     * @param otp     The OTP returned by {@link #issue}.
+     */
+    public void withdraw(OtpPurpose purpose, String email, String otp) {
+        String normalizedEmail = normalize(email);
+        otpStore.withdraw(purpose, normalizedEmail, hash(purpose, normalizedEmail, otp));
+    }
+
+    @Scheduled(fixedDelayString = "${app.otp.purge-interval:PT1M}")
+    public void purgeExpired() {
+        otpStore.purgeExpired();
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static byte[] hash(OtpPurpose purpose, String email, String otp) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return digest.digest((purpose.name() + ':' + email + ':' + otp).getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+}
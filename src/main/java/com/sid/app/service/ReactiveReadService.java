@@ -0,0 +1,82 @@
+package com.sid.app.service;
+
+import com.sid.app.model.BankAccountDTO;
+import com.sid.app.model.FuelExpenseDTO;
+import com.sid.app.model.VehicleDTO;
+import com.sid.app.model.VehicleServicingDTO;
+import com.sid.app.repository.reactive.ReactiveReadRepository;
+import com.sid.app.utils.BlockingExecutor;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Streaming reads for the busiest list endpoints.
+ * <p>
+ * With the {@code r2dbc} profile active, rows come from {@link ReactiveReadRepository} and flow to the
+ * client with end-to-end backpressure. Otherwise the existing JPA services are called on the blocking
+ * scheduler and their results are emitted as a {@link Flux}, so the endpoints behave the same either way.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Service
+public class ReactiveReadService {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+    private final FuelExpenseService fuelExpenseService;
+    private final VehicleService vehicleService;
+    private final BankAccountService bankAccountService;
+    private final VehicleServicingService vehicleServicingService;
+    private final BlockingExecutor blockingExecutor;
+
+    public ReactiveReadService(ObjectProvider<ReactiveReadRepository> reactiveReadRepository,
+                               FuelExpenseService fuelExpenseService,
+                               VehicleService vehicleService,
+                               BankAccountService bankAccountService,
+                               VehicleServicingService vehicleServicingService,
+                               BlockingExecutor blockingExecutor) {
+        this.reactiveReadRepository = reactiveReadRepository.getIfAvailable();
+        this.fuelExpenseService = fuelExpenseService;
+        this.vehicleService = vehicleService;
+        this.bankAccountService = bankAccountService;
+        this.vehicleServicingService = vehicleServicingService;
+        this.blockingExecutor = blockingExecutor;
+        log.info("Streaming reads use the {} path.", this.reactiveReadRepository != null ? "R2DBC" : "JPA");
+    }
+
+    public Flux<FuelExpenseDTO> streamFuelExpensesByVehicleId(Long vehicleId) {
+        return reactiveReadRepository != null
+                ? reactiveReadRepository.findFuelExpensesByVehicleId(vehicleId)
+                : fromBlocking(() -> fuelExpenseService.getFuelExpenses(vehicleId, null));
+    }
+
+    public Flux<VehicleDTO> streamVehiclesByUserId(Long userId) {
+        return reactiveReadRepository != null
+                ? reactiveReadRepository.findVehiclesByUserId(userId)
+                : fromBlocking(() -> vehicleService.getVehiclesByUserId(userId));
+    }
+
+    public Flux<BankAccountDTO> streamBankAccountsByUserId(Long userId) {
+        return reactiveReadRepository != null
+                ? reactiveReadRepository.findBankAccountsByUserId(userId)
+                : fromBlocking(() -> bankAccountService.getBankAccountsByUserId(userId));
+    }
+
+    public Flux<VehicleServicingDTO> streamVehicleServicesByVehicleId(Long vehicleId) {
+        return reactiveReadRepository != null
+                ? reactiveReadRepository.findVehicleServicesByVehicleId(vehicleId)
+                : fromBlocking(() -> vehicleServicingService.getVehicleServices(vehicleId, null))
+                .onErrorResume(EntityNotFoundException.class, e -> Flux.empty()); // JPA path signals "no rows" with an exception
+    }
+
+    private <T> Flux<T> fromBlocking(Callable<List<T>> query) {
+        return blockingExecutor.execute(query).flatMapIterable(list -> list);
+    }
+
+}
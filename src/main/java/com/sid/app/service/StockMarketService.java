@@ -27,19 +27,37 @@ public class StockMarketService {
 
     private final WebClient webClientNSE;
     private final AppProperties properties;
+    private final StockSnapshotCache snapshotCache;
+    private final IndexHistoryService indexHistoryService;
+    private final IndexTickStore tickStore;
 
-    public StockMarketService(WebClient webClientNSE, AppProperties properties) {
+    public StockMarketService(WebClient webClientNSE, AppProperties properties, StockSnapshotCache snapshotCache,
+                              IndexHistoryService indexHistoryService, IndexTickStore tickStore) {
         this.properties = properties;
         this.webClientNSE = webClientNSE;
+        this.snapshotCache = snapshotCache;
+        this.indexHistoryService = indexHistoryService;
+        this.tickStore = tickStore;
     }
 
     /**
-     * Fetches stock market data for a given index from NSE API.
+     * Returns stock market data for a given index. Snapshots are cached briefly and concurrent requests
+     * for the same index share one NSE call (see {@link StockSnapshotCache}).
      *
      * @param index The stock index (e.g., "NIFTY 50").
      * @return Mono containing stock market response.
      */
     public Mono<StockResponseDTO> invokeStockData(String index) {
+        return snapshotCache.get(index, this::fetchStockData);
+    }
+
+    /**
+     * Fetches stock market data for a given index from NSE API.
+     *
+     * @param index The stock index (e.g., "NIFTY 50").
+     * @return Mono containing stock market response.
+     */
+    private Mono<StockResponseDTO> fetchStockData(String index) {
         String requestUrl = properties.getNifty50URL() + "?index=" + index;
         log.info(AppConstants.METHOD_INVOKE_STOCK_DATA + AppConstants.LOG_FETCHING_STOCK_DATA, requestUrl);
 
@@ -62,6 +80,8 @@ public class StockMarketService {
                 .flatMap(response -> {
                     if (response.getData() != null && !response.getData().isEmpty()) {
                         log.info(AppConstants.METHOD_INVOKE_STOCK_DATA + AppConstants.LOG_STOCK_DATA_RETRIEVED, index);
+                        indexHistoryService.record(index, response);
+                        tickStore.record(index, response);
                         return Mono.just(response);
                     } else {
                         log.warn(AppConstants.METHOD_INVOKE_STOCK_DATA + AppConstants.LOG_NO_STOCK_DATA, index);
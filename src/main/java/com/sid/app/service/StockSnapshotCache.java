@@ -0,0 +1,115 @@
+package com.sid.app.service;
+
+import com.sid.app.config.StockCacheProperties;
+import com.sid.app.model.stock.StockResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Short-lived, per-index cache of NSE snapshots with single-flight loading.
+ * <p>
+ * A snapshot younger than {@code ttl} is served from memory. Otherwise the first caller starts one upstream
+ * call and every caller that arrives while it is running subscribes to the same call, so a burst of requests
+ * for one index costs a single NSE request. If the call fails, a snapshot younger than {@code staleTtl} is
+ * served instead of the error.
+ * <p>
+ * Lookups are counted in {@code stock.cache.requests}, tagged {@code result} = hit, miss, coalesced or stale.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Component
+public class StockSnapshotCache {
+
+    private final StockCacheProperties properties;
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, Mono<StockResponseDTO>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter stale;
+
+    public StockSnapshotCache(StockCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.coalesced = requestCounter(meterRegistry, "coalesced");
+        this.stale = requestCounter(meterRegistry, "stale");
+    }
+
+    /**
+     * Returns the snapshot of an index, loading it through {@code loader} when the cached one has expired.
+     *
+     * @param index  The stock index (e.g., "NIFTY 50").
+     * @param loader Fetches a fresh snapshot from NSE.
+     * @return Mono containing the snapshot.
+     */
+    public Mono<StockResponseDTO> get(String index, Function<String, Mono<StockResponseDTO>> loader) {
+        return Mono.defer(() -> {
+            String key = index.trim().toUpperCase(Locale.ROOT);
+            Snapshot cached = snapshots.get(key);
+            if (cached != null && cached.isYoungerThan(properties.getTtl())) {
+                hits.increment();
+                return Mono.just(cached.response());
+            }
+
+            boolean[] started = {false};
+            Mono<StockResponseDTO> load = inFlight.computeIfAbsent(key, k -> {
+                started[0] = true;
+                return loader.apply(index)
+                        .doOnNext(response -> store(k, response))
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache();
+            });
+            (started[0] ? misses : coalesced).increment();
+
+            return load.onErrorResume(ex -> {
+                Snapshot fallback = snapshots.get(key);
+                if (fallback != null && fallback.isYoungerThan(properties.getStaleTtl())) {
+                    log.warn("StockSnapshotCache.get() : Serving stale snapshot of {} after upstream error: {}", key, ex.getMessage());
+                    stale.increment();
+                    return Mono.just(fallback.response());
+                }
+                return Mono.error(ex);
+            });
+        });
+    }
+
+    private void store(String key, StockResponseDTO response) {
+        if (!snapshots.containsKey(key) && snapshots.size() >= properties.getMaxEntries()) {
+            snapshots.values().removeIf(snapshot -> !snapshot.isYoungerThan(properties.getStaleTtl()));
+            if (snapshots.size() >= properties.getMaxEntries()) {
+                log.debug("StockSnapshotCache.store() : Cache full, not caching {}", key);
+                return;
+            }
+        }
+        snapshots.put(key, new Snapshot(response, System.nanoTime()));
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("stock.cache.requests")
+                .description("NSE snapshot cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Snapshot(StockResponseDTO response, long fetchedAtNanos) {
+
+        boolean isYoungerThan(Duration age) {
+            return System.nanoTime() - fetchedAtNanos < age.toNanos();
+        }
+
+    }
+
+}
@@ -0,0 +1,245 @@
+package com.sid.app.service;
+
+import com.sid.app.config.StockStreamProperties;
+import com.sid.app.exception.StockException;
+import com.sid.app.model.stock.AdvanceDTO;
+import com.sid.app.model.stock.IndexUpdateDTO;
+import com.sid.app.model.stock.StockDataDTO;
+import com.sid.app.model.stock.StockField;
+import com.sid.app.model.stock.StockResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.ConnectableFlux;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live index updates shared by all viewers of an index.
+ * <p>
+ * Each index has one poller, started by its first subscriber and stopped {@code idleGrace} after its last one
+ * leaves, so NSE traffic depends on the number of indices watched, not on the number of viewers. Pollers are
+ * started, shared and stopped only inside {@code feeds.compute} for their index, so a viewer can never hold a
+ * poller that is no longer in the map, and at most {@code maxIndices} pollers run at once. The poller
+ * fetches through {@link StockMarketService}, which also shares its snapshots with the REST endpoint, and
+ * only publishes when at least one symbol changed. A symbol counts as changed when one of its
+ * {@link #MARKET_FIELDS} did; fields such as {@code lastUpdateTime} are new on every fetch and are ignored.
+ * <p>
+ * The published states are replayed to late subscribers (latest only), so every viewer starts with a full
+ * snapshot. Each viewer then receives the changed symbols of every later state. A viewer that cannot keep up
+ * skips to the latest state, and because that leaves a gap in the sequence it receives it as a snapshot.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Slf4j
+@Service
+public class StockStreamService {
+
+    private static final List<StockField> MARKET_FIELDS = List.of(StockField.LAST_PRICE, StockField.CHANGE,
+            StockField.P_CHANGE, StockField.TOTAL_TRADED_VOLUME, StockField.DAY_HIGH, StockField.DAY_LOW);
+
+    private final StockMarketService stockMarketService;
+    private final StockStreamProperties properties;
+
+    private final Map<String, Feed> feeds = new ConcurrentHashMap<>();
+    private final AtomicInteger activeFeeds = new AtomicInteger();
+
+    public StockStreamService(StockMarketService stockMarketService, StockStreamProperties properties) {
+        this.stockMarketService = stockMarketService;
+        this.properties = properties;
+    }
+
+    /**
+     * Streams updates of an index: a snapshot first, then diffs.
+     *
+     * @param index The stock index (e.g., "NIFTY 50").
+     * @return Flux of index updates.
+     */
+    public Flux<IndexUpdateDTO> stream(String index) {
+        String key = index.trim().toUpperCase(Locale.ROOT);
+        return Flux.defer(() -> {
+            Feed feed;
+            try {
+                feed = acquire(index, key);
+            } catch (StockException e) {
+                return Flux.error(e);
+            }
+            long[] lastSequence = {-1};
+            return feed.states.onBackpressureLatest()
+                    .map(state -> {
+                        boolean contiguous = lastSequence[0] >= 0 && state.sequence() == lastSequence[0] + 1;
+                        lastSequence[0] = state.sequence();
+                        return contiguous ? state.toDiff() : state.toSnapshot();
+                    })
+                    .doFinally(signal -> release(key, feed));
+        });
+    }
+
+    /**
+     * Joins the running poller of an index, starting one if there is none and the limit allows it.
+     */
+    private Feed acquire(String index, String key) {
+        return feeds.compute(key, (k, feed) -> {
+            if (feed == null) {
+                if (activeFeeds.incrementAndGet() > properties.getMaxIndices()) {
+                    activeFeeds.decrementAndGet();
+                    throw new StockException("Too many indices are being streamed, try again later.");
+                }
+                log.info("StockStreamService.acquire() : Starting poller for {}", k);
+                feed = new Feed(poll(index, k));
+            }
+            feed.retain();
+            return feed;
+        });
+    }
+
+    /**
+     * Leaves a poller; the last viewer to leave schedules its stop after {@code idleGrace}.
+     */
+    private void release(String key, Feed feed) {
+        feeds.computeIfPresent(key, (k, current) -> {
+            if (current == feed && current.release() == 0) {
+                current.pendingStop = Mono.delay(properties.getIdleGrace())
+                        .subscribe(tick -> stopIfIdle(k, current));
+            }
+            return current;
+        });
+    }
+
+    private void stopIfIdle(String key, Feed feed) {
+        feeds.computeIfPresent(key, (k, current) -> {
+            if (current != feed || current.subscribers > 0) {
+                return current;
+            }
+            log.info("StockStreamService.stopIfIdle() : Stopping poller for {}, no subscribers left", k);
+            current.connection.dispose();
+            activeFeeds.decrementAndGet();
+            return null;
+        });
+    }
+
+    private Flux<IndexState> poll(String index, String key) {
+        return Flux.defer(() -> {
+                    Map<String, StockDataDTO> previous = new LinkedHashMap<>();
+                    long[] sequence = {0};
+                    return Flux.interval(Duration.ZERO, properties.getPollInterval())
+                            .onBackpressureDrop()
+                            .concatMap(tick -> stockMarketService.invokeStockData(index)
+                                    .onErrorResume(ex -> {
+                                        log.warn("StockStreamService.poll() : Poll of {} failed: {}", key, ex.getMessage());
+                                        return Mono.empty();
+                                    }), 1)
+                            .handle((StockResponseDTO response, SynchronousSink<IndexState> sink) -> {
+                                IndexState state = diff(key, response, previous, sequence[0] + 1);
+                                if (state.isFirst() || !state.changed().isEmpty() || !state.removed().isEmpty()) {
+                                    sequence[0] = state.sequence();
+                                    sink.next(state);
+                                }
+                            });
+                });
+    }
+
+    private static IndexState diff(String key, StockResponseDTO response, Map<String, StockDataDTO> previous, long sequence) {
+        boolean first = previous.isEmpty();
+        Map<String, StockDataDTO> current = new LinkedHashMap<>();
+        List<StockDataDTO> changed = new ArrayList<>();
+        if (response.getData() != null) {
+            for (StockDataDTO stock : response.getData()) {
+                current.put(stock.getSymbol(), stock);
+                if (marketChanged(previous.get(stock.getSymbol()), stock)) {
+                    changed.add(stock);
+                }
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String symbol : previous.keySet()) {
+            if (!current.containsKey(symbol)) {
+                removed.add(symbol);
+            }
+        }
+
+        previous.clear();
+        previous.putAll(current);
+        return new IndexState(key, sequence, first, response.getTimestamp(), response.getAdvance(),
+                List.copyOf(current.values()), changed, removed);
+    }
+
+    private static boolean marketChanged(StockDataDTO before, StockDataDTO after) {
+        if (before == null) {
+            return true;
+        }
+        for (StockField field : MARKET_FIELDS) {
+            if (Double.compare(field.extract(before), field.extract(after)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A running poller and its viewers. {@link #subscribers} and {@link #pendingStop} are only touched inside
+     * {@code feeds.compute} for the feed's index, which serializes them.
+     */
+    private static final class Feed {
+
+        private final Flux<IndexState> states;
+        private final Disposable connection;
+        private int subscribers;
+        private Disposable pendingStop;
+
+        private Feed(Flux<IndexState> source) {
+            ConnectableFlux<IndexState> replay = source.replay(1);
+            this.states = replay;
+            this.connection = replay.connect();
+        }
+
+        private void retain() {
+            subscribers++;
+            if (pendingStop != null) {
+                pendingStop.dispose();
+                pendingStop = null;
+            }
+        }
+
+        private int release() {
+            return --subscribers;
+        }
+
+    }
+
+    private record IndexState(String index, long sequence, boolean isFirst, String timestamp, AdvanceDTO advance,
+                              List<StockDataDTO> all, List<StockDataDTO> changed, List<String> removed) {
+
+        IndexUpdateDTO toSnapshot() {
+            return toUpdate(true, all, List.of());
+        }
+
+        IndexUpdateDTO toDiff() {
+            return toUpdate(false, changed, removed);
+        }
+
+        private IndexUpdateDTO toUpdate(boolean snapshot, List<StockDataDTO> stocks, List<String> removedSymbols) {
+            return IndexUpdateDTO.builder()
+                    .index(index)
+                    .sequence(sequence)
+                    .snapshot(snapshot)
+                    .timestamp(timestamp)
+                    .advance(advance)
+                    .changed(stocks)
+                    .removed(removedSymbols)
+                    .build();
+        }
+
+    }
+
+}
@@ -1,8 +1,11 @@
 package com.sid.app.service;
 
+import com.sid.app.config.PaginationProperties;
+import com.sid.app.model.CursorPage;
 import com.sid.app.model.UserDTO;
 import com.sid.app.repository.UserRepository;
 import com.sid.app.entity.User;
+import com.sid.app.utils.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,7 +13,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service for managing users, including retrieval, update, and deletion operations.
@@ -21,16 +23,17 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PaginationProperties paginationProperties;
 
-    public List<UserDTO> getAllUsers() {
-        log.info("Fetching all users from the database.");
-        List<User> users = userRepository.findAll();
+    public CursorPage<UserDTO> getAllUsers(String after, Integer limit) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        long afterId = KeysetCursor.decode(after);
+        log.info("Fetching up to {} users after ID {}.", pageSize, afterId);
+        List<User> users = userRepository.findByUserIdGreaterThanOrderByUserIdAsc(afterId, KeysetCursor.probe(pageSize));
         if (users.isEmpty()) {
             log.warn("No users found in the database.");
         }
-        return users.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return KeysetCursor.page(users, pageSize, User::getUserId, this::convertToDTO);
     }
 
     public UserDTO getUserById(Long userId) {
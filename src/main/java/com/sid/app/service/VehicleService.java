@@ -1,21 +1,34 @@
 package com.sid.app.service;
 
+import com.sid.app.config.PaginationProperties;
 import com.sid.app.entity.User;
 import com.sid.app.entity.Vehicle;
+import com.sid.app.model.BulkOperationResult;
+import com.sid.app.model.CursorPage;
 import com.sid.app.model.VehicleDTO;
 import com.sid.app.repository.UserRepository;
+import com.sid.app.repository.VehicleJdbcRepository;
 import com.sid.app.repository.VehicleRepository;
+import com.sid.app.utils.KeysetCursor;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +47,18 @@ public class VehicleService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PaginationProperties paginationProperties;
+
+    @Autowired
+    private VehicleJdbcRepository vehicleJdbcRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.bulk.batch-size:500}")
+    private int bulkBatchSize;
+
     /**
      * Register a new vehicle and save it in the database.
      *
@@ -80,77 +105,148 @@ public class VehicleService {
         return mapToDTO(savedVehicle);
     }
 
-    @Transactional
-    public List<VehicleDTO> registerVehicles(List<VehicleDTO> vehicleDTOs) {
-        List<VehicleDTO> registeredVehicles = new ArrayList<>();
+    /**
+     * Bulk vehicle registration.
+     * <p>
+     * Users are resolved with one {@code findAllById} and clashing chassis, engine and registration numbers
+     * with one pre-flight query for the whole request. Rows that fail either check, or repeat an identifier
+     * used earlier in the same request, are rejected; the rest are inserted through JDBC batches of
+     * {@code app.bulk.batch-size} rows, each batch in its own transaction. If a batch fails, it is retried
+     * row by row so only the offending rows are rejected.
+     *
+     * @param vehicleDTOs Vehicles to register
+     * @return The registered vehicles and the rejected rows, by position in the request
+     */
+    public BulkOperationResult<VehicleDTO> registerVehicles(List<VehicleDTO> vehicleDTOs) {
+        log.info("registerVehicles() : Registering {} vehicles in batches of {}", vehicleDTOs.size(), bulkBatchSize);
+
+        Set<Long> knownUserIds = userRepository.findAllById(vehicleDTOs.stream()
+                        .map(VehicleDTO::getUserId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .map(User::getUserId)
+                .collect(Collectors.toSet());
+
+        Set<String> takenChassisNumbers = new HashSet<>();
+        Set<String> takenEngineNumbers = new HashSet<>();
+        Set<String> takenRegistrationNumbers = new HashSet<>();
+        for (String[] identifiers : vehicleJdbcRepository.findExistingIdentifiers(
+                collectNonNull(vehicleDTOs, VehicleDTO::getChassisNumber),
+                collectNonNull(vehicleDTOs, VehicleDTO::getEngineNumber),
+                collectNonNull(vehicleDTOs, VehicleDTO::getRegistrationNumber))) {
+            takenChassisNumbers.add(identifiers[0]);
+            takenEngineNumbers.add(identifiers[1]);
+            takenRegistrationNumbers.add(identifiers[2]);
+        }
 
-        for (VehicleDTO vehicleDTO : vehicleDTOs) {
-            log.info("registerVehicles() : Processing vehicle with chassis number: {} and registration number: {}",
-                    vehicleDTO.getChassisNumber(), vehicleDTO.getRegistrationNumber());
+        List<BulkOperationResult.RowError> errors = new ArrayList<>();
+        List<VehicleDTO> accepted = new ArrayList<>();
+        for (int i = 0; i < vehicleDTOs.size(); i++) {
+            VehicleDTO vehicleDTO = vehicleDTOs.get(i);
+            String error = validateForRegistration(vehicleDTO, knownUserIds);
+            if (error == null) {
+                error = claimIdentifiers(vehicleDTO, takenChassisNumbers, takenEngineNumbers, takenRegistrationNumbers);
+            }
+            if (error != null) {
+                errors.add(new BulkOperationResult.RowError(i, error));
+            } else {
+                accepted.add(vehicleDTO);
+            }
+        }
 
-            // Fetch the User entity based on the userId in the vehicleDTO
-            User user = userRepository.findById(vehicleDTO.getUserId())
-                    .orElseThrow(() -> new EntityExistsException("User not found with ID: " + vehicleDTO.getUserId()));
+        List<VehicleDTO> registeredVehicles = new ArrayList<>();
+        int batchSize = Math.max(1, bulkBatchSize);
+        for (int from = 0; from < accepted.size(); from += batchSize) {
+            List<VehicleDTO> rows = accepted.subList(from, Math.min(from + batchSize, accepted.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> vehicleJdbcRepository.insertBatch(rows));
+                registeredVehicles.addAll(rows);
+            } catch (DataAccessException e) {
+                log.warn("registerVehicles() : Batch of {} vehicles failed, retrying row by row: {}", rows.size(), e.getMessage());
+                for (VehicleDTO row : rows) {
+                    try {
+                        vehicleJdbcRepository.insert(row);
+                        registeredVehicles.add(row);
+                    } catch (DataAccessException rowError) {
+                        row.setVehicleId(null);
+                        errors.add(new BulkOperationResult.RowError(indexOf(vehicleDTOs, row), rowError.getMostSpecificCause().getMessage()));
+                    }
+                }
+            }
+        }
 
-            // Check if the vehicle already exists
-            Optional<Vehicle> existingVehicle = vehicleRepository.findByChassisNumberOrRegistrationNumber(
-                    vehicleDTO.getChassisNumber(), vehicleDTO.getRegistrationNumber());
+        errors.sort(Comparator.comparingInt(BulkOperationResult.RowError::getIndex));
+        log.info("registerVehicles() : Bulk vehicle registration completed. Total registered: {}, rejected: {}",
+                registeredVehicles.size(), errors.size());
+        return new BulkOperationResult<>(vehicleDTOs.size(), registeredVehicles.size(), errors.size(), registeredVehicles, errors);
+    }
 
-            if (existingVehicle.isPresent()) {
-                log.warn("registerVehicles() : Vehicle with chassis number {} or registration number {} already exists. Skipping...",
-                        vehicleDTO.getChassisNumber(), vehicleDTO.getRegistrationNumber());
-                continue; // Skip duplicate vehicle
-            }
+    private String validateForRegistration(VehicleDTO vehicleDTO, Set<Long> knownUserIds) {
+        if (vehicleDTO.getUserId() == null) {
+            return "userId is required";
+        }
+        if (!knownUserIds.contains(vehicleDTO.getUserId())) {
+            return "User not found with ID: " + vehicleDTO.getUserId();
+        }
+        if (vehicleDTO.getChassisNumber() == null || vehicleDTO.getEngineNumber() == null || vehicleDTO.getRegistrationNumber() == null) {
+            return "chassisNumber, engineNumber and registrationNumber are required";
+        }
+        return null;
+    }
 
-            // Save new vehicle details with the User entity
-            Vehicle vehicle = Vehicle.builder()
-                    .vehicleType(vehicleDTO.getVehicleType())
-                    .vehicleCompany(vehicleDTO.getVehicleCompany())
-                    .vehicleModel(vehicleDTO.getVehicleModel())
-                    .chassisNumber(vehicleDTO.getChassisNumber())
-                    .engineNumber(vehicleDTO.getEngineNumber())
-                    .registrationDate(vehicleDTO.getRegistrationDate())
-                    .registrationValidityDate(vehicleDTO.getRegistrationValidityDate())
-                    .registrationNumber(vehicleDTO.getRegistrationNumber())
-                    .ownerName(vehicleDTO.getOwnerName())
-                    .user(user) // Set the User entity
-                    .build();
-
-            Vehicle savedVehicle = vehicleRepository.save(vehicle);
-            registeredVehicles.add(mapToDTO(savedVehicle));
+    /**
+     * Reserves the vehicle's identifiers, so a later row in the same request that repeats one is rejected too.
+     */
+    private String claimIdentifiers(VehicleDTO vehicleDTO, Set<String> chassisNumbers, Set<String> engineNumbers,
+                                    Set<String> registrationNumbers) {
+        if (chassisNumbers.contains(vehicleDTO.getChassisNumber())) {
+            return "Vehicle already registered with chassis number: " + vehicleDTO.getChassisNumber();
+        }
+        if (engineNumbers.contains(vehicleDTO.getEngineNumber())) {
+            return "Vehicle already registered with engine number: " + vehicleDTO.getEngineNumber();
+        }
+        if (registrationNumbers.contains(vehicleDTO.getRegistrationNumber())) {
+            return "Vehicle already registered with registration number: " + vehicleDTO.getRegistrationNumber();
         }
+        chassisNumbers.add(vehicleDTO.getChassisNumber());
+        engineNumbers.add(vehicleDTO.getEngineNumber());
+        registrationNumbers.add(vehicleDTO.getRegistrationNumber());
+        return null;
+    }
 
-        log.info("registerVehicles() : Bulk vehicle registration completed. Total registered: {}", registeredVehicles.size());
-        return registeredVehicles;
+    private static Set<String> collectNonNull(List<VehicleDTO> vehicleDTOs, Function<VehicleDTO, String> identifier) {
+        return vehicleDTOs.stream().map(identifier).filter(Objects::nonNull).collect(Collectors.toSet());
     }
 
+    private static int indexOf(List<VehicleDTO> vehicleDTOs, VehicleDTO vehicleDTO) {
+        for (int i = 0; i < vehicleDTOs.size(); i++) {
+            if (vehicleDTOs.get(i) == vehicleDTO) {
+                return i;
+            }
+        }
+        return -1;
+    }
 
     /**
-     * Retrieves all registered vehicles.
+     * Retrieves one page of registered vehicles, in vehicle ID order.
      *
-     * @return A list of all registered vehicles.
+     * @param after Cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit Requested page size, or {@code null} for the default.
+     * @return A page of registered vehicles.
      */
-    public List<VehicleDTO> getAllVehicles() {
-        log.info("getAllVehicles() : Fetching all registered vehicles...");
+    public CursorPage<VehicleDTO> getAllVehicles(String after, Integer limit) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        long afterId = KeysetCursor.decode(after);
+        log.info("getAllVehicles() : Fetching up to {} vehicles after ID {}", pageSize, afterId);
 
-        List<Vehicle> vehicleList = vehicleRepository.findAll();
+        List<Vehicle> vehicleList = vehicleRepository.findByVehicleIdGreaterThanOrderByVehicleIdAsc(afterId, KeysetCursor.probe(pageSize));
 
         if (vehicleList.isEmpty()) {
             log.warn("getAllVehicles() : No registered vehicles found.");
-            return Collections.emptyList(); // Return an empty list instead of throwing an exception
         }
 
-        log.info("getAllVehicles() : Total vehicles found: {}", vehicleList.size());
-
-        // Include the userId in the VehicleDTO
-        return vehicleList.stream()
-                .map(vehicle -> {
-                    VehicleDTO vehicleDTO = mapToDTO(vehicle);
-                    // Ensure userId is mapped correctly (can be added as part of the DTO mapping logic)
-                    vehicleDTO.setUserId(vehicle.getUser().getUserId());
-                    return vehicleDTO;
-                })
-                .collect(Collectors.toList());
+        return KeysetCursor.page(vehicleList, pageSize, Vehicle::getVehicleId, this::mapToDTO);
     }
 
     @Transactional
@@ -2,6 +2,7 @@ package com.sid.app.service;
 
 import com.sid.app.entity.Vehicle;
 import com.sid.app.entity.VehicleServicing;
+import com.sid.app.model.SpendDelta;
 import com.sid.app.model.VehicleServicingDTO;
 import com.sid.app.repository.VehicleRepository;
 import com.sid.app.repository.VehicleServiceRepository;
@@ -9,6 +10,7 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -28,6 +30,9 @@ public class VehicleServicingService {
     @Autowired
     private VehicleRepository vehicleRepository;
 
+    @Autowired
+    private MonthlySpendService monthlySpendService;
+
     private final VehicleServiceRepository vehicleServiceRepository;
 
     public VehicleServicingService(VehicleServiceRepository vehicleServiceRepository) {
@@ -40,6 +45,7 @@ public class VehicleServicingService {
      * @param vehicleServicingDTO The vehicle servicing details.
      * @return The saved vehicle servicing DTO with updated details.
      */
+    @Transactional
     public VehicleServicingDTO saveVehicleServicing(VehicleServicingDTO vehicleServicingDTO) {
         log.info("Saving vehicle servicing: {}", vehicleServicingDTO);
 
@@ -68,11 +74,13 @@ public class VehicleServicingService {
         // Save to repository
         VehicleServicing savedVehicleService = vehicleServiceRepository.save(vehicleServicing);
         log.info("Vehicle servicing saved successfully with ID: {}", savedVehicleService.getServicingId());
+        monthlySpendService.apply(List.of(toSpendDelta(savedVehicleService)));
 
         // Convert the saved entity to DTO and return
         return convertToDTO(savedVehicleService);
     }
 
+    @Transactional
     public List<VehicleServicingDTO> saveVehicleServices(List<VehicleServicingDTO> vehicleServicingDTOList) {
         log.info("Saving multiple vehicle servicing records");
 
@@ -104,6 +112,7 @@ public class VehicleServicingService {
         // Save all vehicle servicing records to the repository
         List<VehicleServicing> savedServicings = vehicleServiceRepository.saveAll(vehicleServicings);
         log.info("Vehicle servicing records saved successfully");
+        monthlySpendService.apply(savedServicings.stream().map(this::toSpendDelta).collect(Collectors.toList()));
 
         // Convert the saved entities back to DTO and return
         return savedServicings.stream()
@@ -167,6 +176,7 @@ public class VehicleServicingService {
      *
      * @param id Vehicle service ID
      */
+    @Transactional
     public void deleteVehicleService(Long id) {
         log.info("Deleting vehicle service with ID: {}", id);
 
@@ -174,9 +184,15 @@ public class VehicleServicingService {
                 .orElseThrow(() -> new EntityNotFoundException("Vehicle service not found with ID: " + id));
 
         vehicleServiceRepository.delete(vehicleService);
+        monthlySpendService.apply(List.of(toSpendDelta(vehicleService).negate()));
         log.info("Vehicle service deleted successfully with ID: {}", id);
     }
 
+    private SpendDelta toSpendDelta(VehicleServicing vehicleServicing) {
+        return SpendDelta.service(vehicleServicing.getVehicle().getVehicleId(), vehicleServicing.getServiceDate(),
+                vehicleServicing.getServiceCost());
+    }
+
     private VehicleServicingDTO convertToDTO(VehicleServicing vehicleServicing) {
         return VehicleServicingDTO.builder()
                 .vehicleId(vehicleServicing.getVehicle().getVehicleId())  // Include vehicle ID from the vehicle object
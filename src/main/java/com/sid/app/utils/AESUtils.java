@@ -1,53 +1,35 @@
 package com.sid.app.utils;
 
 import com.sid.app.config.AESProperties;
-import com.sid.app.entity.EncryptionKey;
 import com.sid.app.exception.InvalidEncryptionKeyException;
-import com.sid.app.service.EncryptionKeyService;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
-import javax.crypto.spec.SecretKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 /**
  * AES Encryption Utility without version prefix in encrypted data.
  * The key version is now stored separately in the users table.
+ * Keys are resolved from the in-memory {@link EncryptionKeyRing}, so no call here hits the database.
  */
 @Slf4j
 @Component
 public class AESUtils {
 
     @Autowired
-    private EncryptionKeyService keyService;
+    private EncryptionKeyRing keyRing;
 
     @Autowired
     private AESProperties aesProperties;
 
-    private SecretKeySpec latestKeySpec;
-
-    @PostConstruct
-    private void init() {
-        updateKeySpec();
-    }
-
-    /**
-     * Updates the latest encryption key specification.
-     */
-    private synchronized void updateKeySpec() {
-        EncryptionKey latestKey = keyService.getLatestKey();
-        if (latestKey != null) {
-            latestKeySpec = new SecretKeySpec(latestKey.getSecretKey().getBytes(), aesProperties.getAlgorithm());
-            log.info("Latest encryption key updated (version: {}).", latestKey.getKeyVersion());
-        } else {
-            log.error("No encryption key found in the database.");
-            throw new InvalidEncryptionKeyException("No encryption key available in the system.", null);
-        }
-    }
-
     /**
      * Encrypts the provided data without appending a key version.
      *
@@ -56,9 +38,8 @@ public class AESUtils {
      */
     public String encrypt(String data) {
         try {
-            updateKeySpec(); // Ensure latest key is used
-            Cipher cipher = Cipher.getInstance(aesProperties.getAlgorithm());
-            cipher.init(Cipher.ENCRYPT_MODE, latestKeySpec);
+            Cipher cipher = keyRing.cipher();
+            cipher.init(Cipher.ENCRYPT_MODE, keyRing.getLatestKey());
             byte[] encryptedBytes = cipher.doFinal(data.getBytes());
             return Base64.getEncoder().encodeToString(encryptedBytes);
         } catch (Exception e) {
@@ -76,15 +57,8 @@ public class AESUtils {
      */
     public String decrypt(String encryptedData, int keyVersion) {
         try {
-            EncryptionKey key = keyService.getKeyByVersion(keyVersion);
-            if (key == null) {
-                log.error("No encryption key found for version: {}", keyVersion);
-                throw new InvalidEncryptionKeyException("No encryption key found for version: " + keyVersion, null);
-            }
-
-            SecretKeySpec keySpec = new SecretKeySpec(key.getSecretKey().getBytes(), aesProperties.getAlgorithm());
-            Cipher cipher = Cipher.getInstance(aesProperties.getAlgorithm());
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
+            Cipher cipher = keyRing.cipher();
+            cipher.init(Cipher.DECRYPT_MODE, keyRing.getKey(keyVersion));
             byte[] decryptedBytes = cipher.doFinal(Base64.getDecoder().decode(encryptedData));
 
             return new String(decryptedBytes);
@@ -96,4 +70,55 @@ public class AESUtils {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Decrypts a batch of fields. Fields are grouped by key version so each group initialises the
+     * cipher once, and large batches are split into contiguous chunks decrypted in parallel.
+     * A {@code null} ciphertext decrypts to {@code null}.
+     *
+     * @param fields The encrypted fields.
+     * @return The plaintexts, in the same order as {@code fields}.
+     */
+    public List<String> decryptAll(List<EncryptedField> fields) {
+        String[] plainTexts = new String[fields.size()];
+        int threshold = Math.max(1, aesProperties.getParallelDecryptThreshold());
+
+        if (fields.size() < threshold) {
+            decryptRange(fields, plainTexts, 0, fields.size());
+        } else {
+            int chunks = Math.min(Runtime.getRuntime().availableProcessors(), (fields.size() + threshold - 1) / threshold);
+            int chunkSize = (fields.size() + chunks - 1) / chunks;
+            IntStream.range(0, chunks)
+                    .parallel()
+                    .forEach(chunk -> decryptRange(fields, plainTexts, chunk * chunkSize,
+                            Math.min(fields.size(), (chunk + 1) * chunkSize)));
+        }
+
+        return Arrays.asList(plainTexts);
+    }
+
+    private void decryptRange(List<EncryptedField> fields, String[] plainTexts, int from, int to) {
+        Map<Integer, List<Integer>> indexesByVersion = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            if (fields.get(i).getEncryptedData() != null) {
+                indexesByVersion.computeIfAbsent(fields.get(i).getKeyVersion(), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Cipher cipher = keyRing.cipher();
+        for (Map.Entry<Integer, List<Integer>> group : indexesByVersion.entrySet()) {
+            try {
+                cipher.init(Cipher.DECRYPT_MODE, keyRing.getKey(group.getKey()));
+                for (int index : group.getValue()) {
+                    byte[] decryptedBytes = cipher.doFinal(Base64.getDecoder().decode(fields.get(index).getEncryptedData()));
+                    plainTexts[index] = new String(decryptedBytes);
+                }
+            } catch (InvalidEncryptionKeyException ex) {
+                throw ex;
+            } catch (Exception e) {
+                log.error("Batch decryption error for key version {}: {}", group.getKey(), e.getMessage());
+                throw new InvalidEncryptionKeyException("Decryption failed due to an invalid key or corrupted data.", e);
+            }
+        }
+    }
+
+}
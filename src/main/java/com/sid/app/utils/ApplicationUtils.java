@@ -2,12 +2,15 @@ package com.sid.app.utils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sid.app.model.CursorPage;
 import com.sid.app.model.ResponseDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Slf4j
 public class ApplicationUtils {
@@ -63,4 +66,17 @@ public class ApplicationUtils {
                 .build();
     }
 
+    /**
+     * Builds a response for one page of a keyset-paginated listing.
+     */
+    public static <T> ResponseDTO<List<T>> buildPageResponse(CursorPage<T> page, String message, String status) {
+        return ResponseDTO.<List<T>>builder()
+                .status(status)
+                .message(message)
+                .data(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .hasMore(page.isHasMore())
+                .build();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.sid.app.utils;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Bridges blocking service calls into Reactor by running them on the blocking scheduler,
+ * keeping reactor-netty event loop threads free for I/O.
+ * <p>
+ * Author: Siddhant Patni
+ */
+@Component
+public class BlockingExecutor {
+
+    private final Scheduler scheduler;
+
+    public BlockingExecutor(@Qualifier("blockingScheduler") Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Runs the task on the blocking scheduler.
+     *
+     * @param task The blocking task.
+     * @return A Mono emitting the task result, or an error if the task failed or was rejected.
+     */
+    public <T> Mono<T> execute(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(scheduler);
+    }
+
+    /**
+     * @return The scheduler blocking work runs on, for callers composing their own pipelines.
+     */
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.sid.app.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An email template parsed once into literal text and {@code {PLACEHOLDER}} segments.
+ * <p>
+ * Rendering appends the segments into a per-thread builder that is pre-sized to the template and reused,
+ * so each render allocates only the resulting string. A placeholder without a value is rendered as written.
+ *
+ * @author Siddhant Patni
+ */
+public final class EmailTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([A-Z][A-Z0-9_]*)}");
+    private static final int VALUE_ALLOWANCE = 256;
+
+    private final String[] literals;
+    private final String[] placeholders;
+    private final ThreadLocal<StringBuilder> builders;
+
+    private EmailTemplate(String[] literals, String[] placeholders, int literalLength) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.builders = ThreadLocal.withInitial(() -> new StringBuilder(literalLength + VALUE_ALLOWANCE));
+    }
+
+    /**
+     * Parses a template. There is always one more literal than placeholders; literals may be empty.
+     */
+    public static EmailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        int literalStart = 0;
+        int literalLength = 0;
+        while (matcher.find()) {
+            literals.add(source.substring(literalStart, matcher.start()));
+            literalLength += matcher.start() - literalStart;
+            placeholders.add(matcher.group(1));
+            literalStart = matcher.end();
+        }
+        literals.add(source.substring(literalStart));
+        literalLength += source.length() - literalStart;
+        return new EmailTemplate(literals.toArray(String[]::new), placeholders.toArray(String[]::new), literalLength);
+    }
+
+    /**
+     * @param values Placeholder values by name (e.g. {@code OTP_CODE}).
+     * @return The rendered text.
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder out = builders.get();
+        out.setLength(0);
+        out.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = values.get(placeholders[i]);
+            if (value != null) {
+                out.append(value);
+            } else {
+                out.append('{').append(placeholders[i]).append('}');
+            }
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+}
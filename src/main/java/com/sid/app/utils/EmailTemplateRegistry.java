@@ -0,0 +1,48 @@
+package com.sid.app.utils;
+
+import com.sid.app.config.EmailTemplateProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * All configured email templates, compiled once at startup.
+ *
+ * @author Siddhant Patni
+ */
+@Slf4j
+@Component
+public class EmailTemplateRegistry {
+
+    private final Map<String, CompiledTemplate> templates;
+
+    public EmailTemplateRegistry(EmailTemplateProperties properties) {
+        Map<String, CompiledTemplate> compiled = new HashMap<>();
+        properties.getTemplates().forEach((name, template) -> {
+            if (template.getSubject() == null || template.getBody() == null) {
+                throw new IllegalStateException("Email template '" + name + "' needs both a subject and a body");
+            }
+            compiled.put(name, new CompiledTemplate(EmailTemplate.compile(template.getSubject()),
+                    EmailTemplate.compile(template.getBody())));
+        });
+        this.templates = Map.copyOf(compiled);
+        log.info("Compiled {} email template(s): {}", templates.size(), templates.keySet());
+    }
+
+    /**
+     * @throws IllegalArgumentException if no template has that name.
+     */
+    public CompiledTemplate get(String name) {
+        CompiledTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template: " + name);
+        }
+        return template;
+    }
+
+    public record CompiledTemplate(EmailTemplate subject, EmailTemplate body) {
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.sid.app.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A ciphertext paired with the key version it was encrypted with.
+ *
+ * @author Siddhant Patni
+ */
+@Getter
+@AllArgsConstructor
+public class EncryptedField {
+
+    private final String encryptedData;
+    private final int keyVersion;
+
+}
@@ -0,0 +1,141 @@
+package com.sid.app.utils;
+
+import com.sid.app.config.AESProperties;
+import com.sid.app.entity.EncryptionKey;
+import com.sid.app.exception.InvalidEncryptionKeyException;
+import com.sid.app.service.EncryptionKeyService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory ring of every encryption key version known to the system.
+ * <p>
+ * All versions are loaded once at startup into an immutable version -> {@link SecretKeySpec} map.
+ * A refresh builds a new map and swaps it in with a single volatile write, so readers never
+ * see a partially built ring and never touch the database on the encrypt/decrypt path.
+ * Ciphers are cached per thread because {@link Cipher} instances are not thread-safe.
+ *
+ * @author Siddhant Patni
+ */
+@Slf4j
+@Component
+public class EncryptionKeyRing {
+
+    // Lookups of unknown versions reload the ring at most this often
+    private static final long MIN_RELOAD_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    @Autowired
+    private EncryptionKeyService keyService;
+
+    @Autowired
+    private AESProperties aesProperties;
+
+    private volatile Snapshot snapshot;
+
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(this::newCipher);
+
+    @PostConstruct
+    private void init() {
+        refresh();
+    }
+
+    /**
+     * Reloads all key versions from the database and atomically replaces the current ring.
+     * Call this after a key rotation.
+     */
+    public synchronized void refresh() {
+        List<EncryptionKey> keys = keyService.getAllKeys();
+        if (keys.isEmpty()) {
+            log.error("No encryption key found in the database.");
+            throw new InvalidEncryptionKeyException("No encryption key available in the system.", null);
+        }
+
+        Map<Integer, SecretKeySpec> keySpecs = new HashMap<>();
+        int latestVersion = Integer.MIN_VALUE;
+        for (EncryptionKey key : keys) {
+            keySpecs.put(key.getKeyVersion(), new SecretKeySpec(key.getSecretKey().getBytes(), aesProperties.getAlgorithm()));
+            latestVersion = Math.max(latestVersion, key.getKeyVersion());
+        }
+
+        snapshot = new Snapshot(Map.copyOf(keySpecs), latestVersion, System.nanoTime());
+        log.info("Encryption key ring loaded with {} key(s), latest version: {}.", keySpecs.size(), latestVersion);
+    }
+
+    /**
+     * @return The version of the key new data is encrypted with.
+     */
+    public int getLatestVersion() {
+        return snapshot.latestVersion();
+    }
+
+    /**
+     * @return The key spec of the latest key version.
+     */
+    public SecretKeySpec getLatestKey() {
+        Snapshot current = snapshot;
+        return current.keys().get(current.latestVersion());
+    }
+
+    /**
+     * Resolves the key spec for a version. A version newer than the latest known one may have been rotated
+     * in by another node, so it triggers a reload, at most one per 5 seconds. Versions are assigned in
+     * increasing order, so a missing older version (e.g. a corrupt row) fails fast without a reload.
+     *
+     * @param keyVersion The key version.
+     * @return The key spec.
+     * @throws InvalidEncryptionKeyException if the version does not exist.
+     */
+    public SecretKeySpec getKey(int keyVersion) {
+        SecretKeySpec keySpec = snapshot.keys().get(keyVersion);
+        if (keySpec == null) {
+            reloadFor(keyVersion);
+            keySpec = snapshot.keys().get(keyVersion);
+        }
+        if (keySpec == null) {
+            log.error("No encryption key found for version: {}", keyVersion);
+            throw new InvalidEncryptionKeyException("No encryption key found for version: " + keyVersion, null);
+        }
+        return keySpec;
+    }
+
+    private synchronized void reloadFor(int keyVersion) {
+        // Re-checked under the lock: a concurrent caller may have just reloaded
+        Snapshot current = snapshot;
+        if (current.keys().containsKey(keyVersion) || keyVersion <= current.latestVersion()
+                || System.nanoTime() - current.loadedAtNanos() < MIN_RELOAD_INTERVAL_NANOS) {
+            return;
+        }
+        refresh();
+    }
+
+    /**
+     * Returns this thread's cached cipher. Callers must {@code init} it before use.
+     *
+     * @return The per-thread cipher.
+     */
+    public Cipher cipher() {
+        return ciphers.get();
+    }
+
+    private Cipher newCipher() {
+        try {
+            return Cipher.getInstance(aesProperties.getAlgorithm());
+        } catch (GeneralSecurityException e) {
+            throw new InvalidEncryptionKeyException("Unsupported cipher algorithm: " + aesProperties.getAlgorithm(), e);
+        }
+    }
+
+    private record Snapshot(Map<Integer, SecretKeySpec> keys, int latestVersion, long loadedAtNanos) {
+    }
+
+}
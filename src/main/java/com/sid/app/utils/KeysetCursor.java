@@ -0,0 +1,82 @@
+package com.sid.app.utils;
+
+import com.sid.app.model.CursorPage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Helpers for keyset pagination on identity primary keys.
+ * <p>
+ * A page is read as "rows with id greater than the cursor, ordered by id, limit n + 1"; the extra row only
+ * tells whether another page exists. Cursors are the last returned id, Base64 encoded so clients treat
+ * them as opaque.
+ * <p>
+ * Author: Siddhant Patni
+ */
+public final class KeysetCursor {
+
+    private static final String PREFIX = "id:";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor The cursor from a previous page, may be {@code null} or blank for the first page.
+     * @return The id to continue after, {@code 0} for the first page.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Invalid pagination cursor.");
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) { // also covers NumberFormatException
+            throw new IllegalArgumentException("Invalid pagination cursor.", e);
+        }
+    }
+
+    /**
+     * @return A page request that fetches one row more than {@code limit}.
+     */
+    public static Pageable probe(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /**
+     * Builds a page from rows fetched with {@link #probe(int)}.
+     *
+     * @param rows   Rows ordered by id, at most {@code limit + 1}.
+     * @param limit  The page size.
+     * @param idOf   Extracts the id of a row.
+     * @param mapper Converts a row to its DTO.
+     */
+    public static <E, D> CursorPage<D> page(List<E> rows, int limit, Function<E, Long> idOf, Function<E, D> mapper) {
+        return pageBatch(rows, limit, idOf, pageRows -> pageRows.stream().map(mapper).collect(Collectors.toList()));
+    }
+
+    /**
+     * Same as {@link #page}, for mappers that convert the whole page at once.
+     */
+    public static <E, D> CursorPage<D> pageBatch(List<E> rows, int limit, Function<E, Long> idOf, Function<List<E>, List<D>> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? encode(idOf.apply(pageRows.get(pageRows.size() - 1))) : null;
+        return new CursorPage<>(mapper.apply(pageRows), nextCursor, hasMore);
+    }
+
+}
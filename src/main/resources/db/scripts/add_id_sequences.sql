@@ -0,0 +1,52 @@
+-- Move primary keys from BIGSERIAL to explicit sequences that hand out blocks of 50 ids.
+-- Hibernate uses the pooled-lo optimizer: each nextval reserves [value, value + 49] for one JVM,
+-- so entity inserts can be batched. The column defaults keep plain SQL inserts working.
+
+-- users
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(user_id) FROM users), 0) + 1, false);
+ALTER TABLE users ALTER COLUMN user_id SET DEFAULT nextval('users_seq');
+ALTER SEQUENCE users_seq OWNED BY users.user_id;
+DROP SEQUENCE IF EXISTS users_user_id_seq;
+
+-- vehicle
+CREATE SEQUENCE IF NOT EXISTS vehicle_seq INCREMENT BY 50;
+SELECT setval('vehicle_seq', COALESCE((SELECT MAX(vehicle_id) FROM vehicle), 0) + 1, false);
+ALTER TABLE vehicle ALTER COLUMN vehicle_id SET DEFAULT nextval('vehicle_seq');
+ALTER SEQUENCE vehicle_seq OWNED BY vehicle.vehicle_id;
+DROP SEQUENCE IF EXISTS vehicle_vehicle_id_seq;
+
+-- fuel_expense
+CREATE SEQUENCE IF NOT EXISTS fuel_expense_seq INCREMENT BY 50;
+SELECT setval('fuel_expense_seq', COALESCE((SELECT MAX(fuel_expense_id) FROM fuel_expense), 0) + 1, false);
+ALTER TABLE fuel_expense ALTER COLUMN fuel_expense_id SET DEFAULT nextval('fuel_expense_seq');
+ALTER SEQUENCE fuel_expense_seq OWNED BY fuel_expense.fuel_expense_id;
+DROP SEQUENCE IF EXISTS fuel_expense_fuel_expense_id_seq;
+
+-- vehicle_service
+CREATE SEQUENCE IF NOT EXISTS vehicle_service_seq INCREMENT BY 50;
+SELECT setval('vehicle_service_seq', COALESCE((SELECT MAX(servicing_id) FROM vehicle_service), 0) + 1, false);
+ALTER TABLE vehicle_service ALTER COLUMN servicing_id SET DEFAULT nextval('vehicle_service_seq');
+ALTER SEQUENCE vehicle_service_seq OWNED BY vehicle_service.servicing_id;
+DROP SEQUENCE IF EXISTS vehicle_service_servicing_id_seq;
+
+-- credentials
+CREATE SEQUENCE IF NOT EXISTS credentials_seq INCREMENT BY 50;
+SELECT setval('credentials_seq', COALESCE((SELECT MAX(credential_id) FROM credentials), 0) + 1, false);
+ALTER TABLE credentials ALTER COLUMN credential_id SET DEFAULT nextval('credentials_seq');
+ALTER SEQUENCE credentials_seq OWNED BY credentials.credential_id;
+DROP SEQUENCE IF EXISTS credentials_credential_id_seq;
+
+-- bank_account
+CREATE SEQUENCE IF NOT EXISTS bank_account_seq INCREMENT BY 50;
+SELECT setval('bank_account_seq', COALESCE((SELECT MAX(bank_account_id) FROM bank_account), 0) + 1, false);
+ALTER TABLE bank_account ALTER COLUMN bank_account_id SET DEFAULT nextval('bank_account_seq');
+ALTER SEQUENCE bank_account_seq OWNED BY bank_account.bank_account_id;
+DROP SEQUENCE IF EXISTS bank_account_bank_account_id_seq;
+
+-- bank_cards
+CREATE SEQUENCE IF NOT EXISTS bank_cards_seq INCREMENT BY 50;
+SELECT setval('bank_cards_seq', COALESCE((SELECT MAX(bank_card_id) FROM bank_cards), 0) + 1, false);
+ALTER TABLE bank_cards ALTER COLUMN bank_card_id SET DEFAULT nextval('bank_cards_seq');
+ALTER SEQUENCE bank_cards_seq OWNED BY bank_cards.bank_card_id;
+DROP SEQUENCE IF EXISTS bank_cards_bank_card_id_seq;
@@ -0,0 +1,15 @@
+-- Indexes for the foreign keys and lookup columns the repositories filter on.
+-- bank_cards (bank_account_id, card_number_last_four) and credentials (user_id, account_name, username, email)
+-- are already backed by the indexes of their unique constraints, which also serve lookups by the leading column.
+
+-- Fuel expenses of a vehicle, by fill date
+CREATE INDEX IF NOT EXISTS idx_fuel_expense_vehicle_date ON fuel_expense (vehicle_id, fuel_filled_date);
+
+-- Service history of a vehicle, by service date
+CREATE INDEX IF NOT EXISTS idx_vehicle_service_vehicle_date ON vehicle_service (vehicle_id, service_date);
+
+-- Vehicles of a user
+CREATE INDEX IF NOT EXISTS idx_vehicle_user_id ON vehicle (user_id);
+
+-- Bank accounts of a user
+CREATE INDEX IF NOT EXISTS idx_bank_account_user_id ON bank_account (user_id);
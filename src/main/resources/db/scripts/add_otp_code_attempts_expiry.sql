@@ -0,0 +1,4 @@
+-- Alter Table: otp_code
+-- Wrong guesses are counted per email and purpose across re-issued OTPs. attempts_expire_at is when they are
+-- forgotten (lockout after the last wrong guess); a row is kept until both it and expires_at have passed.
+ALTER TABLE otp_code ADD COLUMN IF NOT EXISTS attempts_expire_at TIMESTAMP;
@@ -0,0 +1,14 @@
+-- Create Table: otp_code
+-- OTPs shared by all nodes when app.otp.store=jdbc. One row per email and purpose; only the SHA-256 hash
+-- of the OTP is stored, and expired rows are purged by the application.
+CREATE TABLE IF NOT EXISTS otp_code (
+    purpose VARCHAR(32) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    otp_hash BYTEA NOT NULL,
+    attempts INT DEFAULT 0 NOT NULL,
+    issued_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_otp_code PRIMARY KEY (purpose, email)
+);
+
+CREATE INDEX IF NOT EXISTS idx_otp_code_expires_at ON otp_code (expires_at);
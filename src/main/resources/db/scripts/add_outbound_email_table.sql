@@ -0,0 +1,12 @@
+-- Create Table: outbound_email
+-- Spillover of the in-memory mail queue (app.mail.spillover): emails that did not fit in the queue or were
+-- still queued at shutdown. Rows are deleted as soon as a node claims them for delivery.
+CREATE TABLE IF NOT EXISTS outbound_email (
+    id BIGSERIAL PRIMARY KEY,
+    sender VARCHAR(255) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(500) NOT NULL,
+    body TEXT NOT NULL,
+    attempts INT DEFAULT 0 NOT NULL,
+    created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
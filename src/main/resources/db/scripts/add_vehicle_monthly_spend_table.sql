@@ -0,0 +1,35 @@
+-- Create Table: vehicle_monthly_spend
+-- Monthly fuel and servicing totals per vehicle, kept up to date by the services on every insert/delete
+-- and rebuilt nightly by the reconciliation job. user_id is copied from vehicle for per-user totals.
+CREATE TABLE IF NOT EXISTS vehicle_monthly_spend (
+    vehicle_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    spend_month DATE NOT NULL,  -- First day of the month
+    fuel_amount NUMERIC(14,2) DEFAULT 0 NOT NULL,
+    fuel_litres NUMERIC(14,2) DEFAULT 0 NOT NULL,
+    fuel_count INT DEFAULT 0 NOT NULL,
+    service_amount NUMERIC(14,2) DEFAULT 0 NOT NULL,
+    service_count INT DEFAULT 0 NOT NULL,
+    modified_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT pk_vehicle_monthly_spend PRIMARY KEY (vehicle_id, spend_month),
+    CONSTRAINT fk_monthly_spend_vehicle FOREIGN KEY (vehicle_id) REFERENCES vehicle(vehicle_id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_monthly_spend_user_month ON vehicle_monthly_spend (user_id, spend_month);
+
+-- Initial load from the existing expense and servicing records
+INSERT INTO vehicle_monthly_spend (vehicle_id, user_id, spend_month, fuel_amount, fuel_litres, fuel_count, service_amount, service_count)
+SELECT s.vehicle_id, v.user_id, s.spend_month,
+       SUM(s.fuel_amount), SUM(s.fuel_litres), SUM(s.fuel_count), SUM(s.service_amount), SUM(s.service_count)
+FROM (
+    SELECT vehicle_id, CAST(date_trunc('month', CAST(fuel_filled_date AS TIMESTAMP)) AS DATE) AS spend_month,
+           amount AS fuel_amount, quantity AS fuel_litres, 1 AS fuel_count, 0 AS service_amount, 0 AS service_count
+    FROM fuel_expense
+    UNION ALL
+    SELECT vehicle_id, CAST(date_trunc('month', CAST(service_date AS TIMESTAMP)) AS DATE),
+           0, 0, 0, service_cost, 1
+    FROM vehicle_service
+) s
+JOIN vehicle v ON v.vehicle_id = s.vehicle_id
+GROUP BY s.vehicle_id, v.user_id, s.spend_month
+ON CONFLICT (vehicle_id, spend_month) DO NOTHING;
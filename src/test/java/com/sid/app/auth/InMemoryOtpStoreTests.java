@@ -0,0 +1,190 @@
+package com.sid.app.auth;
+
+import com.sid.app.config.OtpProperties;
+import com.sid.app.model.enums.OtpPurpose;
+import com.sid.app.model.enums.OtpVerification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Covers expiry, the resend cooldown and the wrong-guess limit of the in-memory OTP store on a manual clock.
+ */
+class InMemoryOtpStoreTests {
+
+    private static final String EMAIL = "user@test.local";
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration COOLDOWN = Duration.ofSeconds(30);
+    private static final Duration LOCKOUT = Duration.ofMinutes(30);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private InMemoryOtpStore store;
+
+    @BeforeEach
+    void setUp() {
+        OtpProperties properties = new OtpProperties();
+        properties.setMaxEntries(16);
+        properties.setShards(2);
+        store = new InMemoryOtpStore(properties, clock::get);
+    }
+
+    @Test
+    void verifiesOnceAndConsumes() {
+        assertTrue(save("111111"));
+
+        assertEquals(OtpVerification.VERIFIED, verify("111111"));
+        assertEquals(OtpVerification.INVALID, verify("111111"));
+    }
+
+    @Test
+    void expiresAfterTtl() {
+        assertTrue(save("111111"));
+
+        advance(TTL);
+        assertEquals(OtpVerification.EXPIRED, verify("111111"));
+        assertEquals(OtpVerification.INVALID, verify("111111"));
+    }
+
+    @Test
+    void refusesReissueWithinCooldown() {
+        assertTrue(save("111111"));
+
+        advance(COOLDOWN.minusSeconds(1));
+        assertFalse(save("222222"));
+        assertEquals(OtpVerification.VERIFIED, verify("111111"));
+
+        assertTrue(save("333333"));
+        advance(COOLDOWN);
+        assertTrue(save("444444"));
+        assertEquals(OtpVerification.INVALID, verify("333333"));
+        assertEquals(OtpVerification.VERIFIED, verify("444444"));
+    }
+
+    @Test
+    void locksAfterMaxWrongGuesses() {
+        assertTrue(save("111111"));
+
+        assertEquals(OtpVerification.INVALID, verify("000000"));
+        assertEquals(OtpVerification.INVALID, verify("000001"));
+        assertEquals(OtpVerification.TOO_MANY_ATTEMPTS, verify("000002"));
+        // Even the right OTP is refused while locked
+        assertEquals(OtpVerification.TOO_MANY_ATTEMPTS, verify("111111"));
+    }
+
+    @Test
+    void wrongGuessesSurviveReissue() {
+        assertTrue(save("111111"));
+        assertEquals(OtpVerification.INVALID, verify("000000"));
+        assertEquals(OtpVerification.INVALID, verify("000001"));
+
+        advance(COOLDOWN);
+        assertTrue(save("222222"));
+        assertEquals(OtpVerification.TOO_MANY_ATTEMPTS, verify("000002"));
+
+        advance(COOLDOWN);
+        assertTrue(save("333333"));
+        assertEquals(OtpVerification.TOO_MANY_ATTEMPTS, verify("333333"));
+    }
+
+    @Test
+    void wrongGuessesSurviveExpiryAndPurge() {
+        assertTrue(save("111111"));
+        assertEquals(OtpVerification.INVALID, verify("000000"));
+        assertEquals(OtpVerification.INVALID, verify("000001"));
+
+        advance(TTL);
+        store.purgeExpired();
+        assertTrue(save("222222"));
+        assertEquals(OtpVerification.TOO_MANY_ATTEMPTS, verify("000002"));
+    }
+
+    @Test
+    void lockoutEndsAfterItsTtl() {
+        assertTrue(save("111111"));
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            verify("00000" + i);
+        }
+
+        advance(LOCKOUT);
+        assertTrue(save("222222"));
+        assertEquals(OtpVerification.INVALID, verify("000000"));
+        assertEquals(OtpVerification.VERIFIED, verify("222222"));
+    }
+
+    @Test
+    void successClearsWrongGuesses() {
+        assertTrue(save("111111"));
+        assertEquals(OtpVerification.INVALID, verify("000000"));
+        assertEquals(OtpVerification.INVALID, verify("000001"));
+        assertEquals(OtpVerification.VERIFIED, verify("111111"));
+
+        advance(COOLDOWN);
+        assertTrue(save("222222"));
+        assertEquals(OtpVerification.INVALID, verify("000000"));
+        assertEquals(OtpVerification.INVALID, verify("000001"));
+        assertEquals(OtpVerification.VERIFIED, verify("222222"));
+    }
+
+    @Test
+    void keepsPurposesApart() {
+        assertTrue(save("111111"));
+        assertTrue(store.save(OtpPurpose.LOGIN, EMAIL, hash("222222"), TTL, COOLDOWN));
+
+        assertEquals(OtpVerification.INVALID, store.verify(OtpPurpose.LOGIN, EMAIL, hash("111111"), MAX_ATTEMPTS, LOCKOUT));
+        assertEquals(OtpVerification.VERIFIED, verify("111111"));
+    }
+
+    @Test
+    void withdrawnOtpLiftsCooldownAndKeepsWrongGuesses() {
+        assertTrue(save("111111"));
+        store.withdraw(OtpPurpose.PASSWORD_RESET, EMAIL, hash("111111"));
+        assertEquals(OtpVerification.INVALID, verify("111111"));
+        assertTrue(save("222222"));
+
+        assertEquals(OtpVerification.INVALID, verify("000000"));
+        assertEquals(OtpVerification.INVALID, verify("000001"));
+        store.withdraw(OtpPurpose.PASSWORD_RESET, EMAIL, hash("222222"));
+        assertEquals(OtpVerification.EXPIRED, verify("222222"));
+
+        assertTrue(save("333333"));
+        assertEquals(OtpVerification.TOO_MANY_ATTEMPTS, verify("000002"));
+    }
+
+    @Test
+    void withdrawIgnoresReplacedOtp() {
+        assertTrue(save("111111"));
+        advance(COOLDOWN);
+        assertTrue(save("222222"));
+
+        store.withdraw(OtpPurpose.PASSWORD_RESET, EMAIL, hash("111111"));
+        assertFalse(save("333333"));
+        assertEquals(OtpVerification.VERIFIED, verify("222222"));
+    }
+
+    private boolean save(String otp) {
+        return store.save(OtpPurpose.PASSWORD_RESET, EMAIL, hash(otp), TTL, COOLDOWN);
+    }
+
+    private OtpVerification verify(String otp) {
+        return store.verify(OtpPurpose.PASSWORD_RESET, EMAIL, hash(otp), MAX_ATTEMPTS, LOCKOUT);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    private static byte[] hash(String otp) {
+        // The store only compares bytes; hashing is OtpService's job
+        return otp.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
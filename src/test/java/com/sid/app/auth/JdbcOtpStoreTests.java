@@ -0,0 +1,115 @@
+package com.sid.app.auth;
+
+import com.sid.app.model.enums.OtpPurpose;
+import com.sid.app.model.enums.OtpVerification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the {@code otp_code} statements against Postgres. CURRENT_TIMESTAMP is fixed for the whole test
+ * transaction, so zero durations stand in for "already elapsed".
+ */
+@SpringBootTest
+@Transactional
+class JdbcOtpStoreTests {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration LOCKOUT = Duration.ofMinutes(30);
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private JdbcOtpStore store;
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        store = new JdbcOtpStore(jdbcTemplate);
+        email = "otp-" + System.nanoTime() + "@test.local";
+    }
+
+    @Test
+    void refusesReissueWithinCooldown() {
+        assertTrue(save("111111", TTL, Duration.ZERO));
+        assertFalse(save("222222", TTL, Duration.ofSeconds(30)));
+        assertEquals(OtpVerification.VERIFIED, verify("111111", LOCKOUT));
+    }
+
+    @Test
+    void reportsExpiredOtp() {
+        assertTrue(save("111111", Duration.ZERO, Duration.ZERO));
+        assertEquals(OtpVerification.EXPIRED, verify("111111", LOCKOUT));
+    }
+
+    @Test
+    void wrongGuessesSurviveReissue() {
+        assertTrue(save("111111", TTL, Duration.ZERO));
+        assertEquals(OtpVerification.INVALID, verify("000000", LOCKOUT));
+        assertEquals(OtpVerification.INVALID, verify("000001", LOCKOUT));
+
+        assertTrue(save("222222", TTL, Duration.ZERO));
+        assertEquals(OtpVerification.TOO_MANY_ATTEMPTS, verify("000002", LOCKOUT));
+
+        assertTrue(save("333333", TTL, Duration.ZERO));
+        assertEquals(OtpVerification.TOO_MANY_ATTEMPTS, verify("333333", LOCKOUT));
+    }
+
+    @Test
+    void wrongGuessesAreForgottenAfterLockout() {
+        assertTrue(save("111111", TTL, Duration.ZERO));
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            verify("00000" + i, Duration.ZERO);
+        }
+
+        assertTrue(save("222222", TTL, Duration.ZERO));
+        assertEquals(OtpVerification.VERIFIED, verify("222222", LOCKOUT));
+    }
+
+    @Test
+    void successClearsWrongGuesses() {
+        assertTrue(save("111111", TTL, Duration.ZERO));
+        assertEquals(OtpVerification.INVALID, verify("000000", LOCKOUT));
+        assertEquals(OtpVerification.INVALID, verify("000001", LOCKOUT));
+        assertEquals(OtpVerification.VERIFIED, verify("111111", LOCKOUT));
+
+        assertTrue(save("222222", TTL, Duration.ZERO));
+        assertEquals(OtpVerification.INVALID, verify("000000", LOCKOUT));
+        assertEquals(OtpVerification.INVALID, verify("000001", LOCKOUT));
+        assertEquals(OtpVerification.VERIFIED, verify("222222", LOCKOUT));
+    }
+
+    @Test
+    void withdrawnOtpLiftsCooldownAndKeepsWrongGuesses() {
+        Duration cooldown = Duration.ofSeconds(30);
+        assertTrue(save("111111", TTL, cooldown));
+        assertEquals(OtpVerification.INVALID, verify("000000", LOCKOUT));
+        assertEquals(OtpVerification.INVALID, verify("000001", LOCKOUT));
+
+        store.withdraw(OtpPurpose.PASSWORD_RESET, email, "111111".getBytes(StandardCharsets.UTF_8));
+        assertEquals(OtpVerification.EXPIRED, verify("111111", LOCKOUT));
+
+        assertTrue(save("222222", TTL, cooldown));
+        assertEquals(OtpVerification.TOO_MANY_ATTEMPTS, verify("000002", LOCKOUT));
+    }
+
+    private boolean save(String otp, Duration ttl, Duration cooldown) {
+        return store.save(OtpPurpose.PASSWORD_RESET, email, otp.getBytes(StandardCharsets.UTF_8), ttl, cooldown);
+    }
+
+    private OtpVerification verify(String otp, Duration lockout) {
+        return store.verify(OtpPurpose.PASSWORD_RESET, email, otp.getBytes(StandardCharsets.UTF_8), MAX_ATTEMPTS, lockout);
+    }
+
+}
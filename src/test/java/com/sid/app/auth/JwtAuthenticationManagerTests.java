@@ -0,0 +1,141 @@
+package com.sid.app.auth;
+
+import com.sid.app.config.JwtProperties;
+import com.sid.app.constants.AppConstants;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs token extraction and verification with real signed tokens, and with a stubbed parser where expiry
+ * has to be controlled.
+ */
+class JwtAuthenticationManagerTests {
+
+    private static final String EMAIL = "user@test.local";
+    private static final String OTHER_ENDPOINT = AppConstants.VEHICLE_ENDPOINT;
+
+    private final JwtUtil jwtUtil = new JwtUtil(properties("test-secret-that-is-at-least-32-bytes-long"));
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private final JwtTokenCache tokenCache = new JwtTokenCache(new JwtProperties(), now::get);
+    private final JwtAuthenticationManager manager = new JwtAuthenticationManager(jwtUtil, tokenCache);
+
+    @Test
+    void acceptsBearerToken() {
+        StepVerifier.create(authenticate(bearer(OTHER_ENDPOINT, jwtUtil.generateToken(EMAIL))))
+                .expectNextMatches(authentication -> authentication.isAuthenticated() && EMAIL.equals(authentication.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        String token = jwtUtil.generateToken(EMAIL);
+        StepVerifier.create(authenticate(bearer(OTHER_ENDPOINT, token))).expectNextCount(1).verifyComplete();
+
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"sub\":\"admin@test.local\",\"exp\":4102444800}".getBytes(StandardCharsets.UTF_8));
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        StepVerifier.create(authenticate(bearer(OTHER_ENDPOINT, forged)))
+                .expectError(BadCredentialsException.class)
+                .verify();
+    }
+
+    @Test
+    void reverifiesTokenOnceCachedEntryExpires() {
+        JwtUtil parser = mock(JwtUtil.class);
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(EMAIL);
+        when(claims.getExpiration()).thenReturn(new Date(now.get() + 1_000));
+        when(parser.parseClaims("token"))
+                .thenReturn(claims)
+                .thenThrow(new JwtException("JWT expired"));
+        JwtAuthenticationManager stubbed = new JwtAuthenticationManager(parser, tokenCache);
+
+        StepVerifier.create(stubbed.authenticate(bearer(OTHER_ENDPOINT, "token").block())).expectNextCount(1).verifyComplete();
+        StepVerifier.create(stubbed.authenticate(bearer(OTHER_ENDPOINT, "token").block())).expectNextCount(1).verifyComplete();
+        verify(parser, times(1)).parseClaims("token");
+
+        now.addAndGet(1_000);
+        StepVerifier.create(stubbed.authenticate(bearer(OTHER_ENDPOINT, "token").block()))
+                .expectError(BadCredentialsException.class)
+                .verify();
+        verify(parser, times(2)).parseClaims("token");
+    }
+
+    @Test
+    void acceptsStreamTokenOnlyInStreamQuery() {
+        String streamToken = jwtUtil.generateStreamToken(EMAIL, Duration.ofMinutes(1));
+
+        StepVerifier.create(authenticate(query(AppConstants.STOCK_NIFTY_STOCK_STREAM_ENDPOINT, streamToken)))
+                .expectNextMatches(authentication -> EMAIL.equals(authentication.getName()))
+                .verifyComplete();
+        StepVerifier.create(authenticate(bearer(OTHER_ENDPOINT, streamToken)))
+                .expectError(BadCredentialsException.class)
+                .verify();
+        StepVerifier.create(query(OTHER_ENDPOINT, streamToken)).verifyComplete();
+    }
+
+    @Test
+    void rejectsAccessTokenInStreamQuery() {
+        StepVerifier.create(authenticate(query(AppConstants.STOCK_NIFTY_STOCK_STREAM_ENDPOINT, jwtUtil.generateToken(EMAIL))))
+                .expectError(BadCredentialsException.class)
+                .verify();
+    }
+
+    @Test
+    void refusesMissingOrShortSecret() {
+        assertThrows(IllegalStateException.class, () -> new JwtUtil(properties(null)));
+        assertThrows(IllegalStateException.class, () -> new JwtUtil(properties("too-short")));
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherSecret() {
+        JwtUtil otherKey = new JwtUtil(properties("another-secret-that-is-at-least-32-bytes"));
+
+        StepVerifier.create(authenticate(bearer(OTHER_ENDPOINT, otherKey.generateToken(EMAIL))))
+                .expectError(BadCredentialsException.class)
+                .verify();
+    }
+
+    private static JwtProperties properties(String secret) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        return properties;
+    }
+
+    private Mono<Authentication> authenticate(Mono<Authentication> converted) {
+        return converted.flatMap(manager::authenticate);
+    }
+
+    private Mono<Authentication> bearer(String path, String token) {
+        return manager.convert(MockServerWebExchange.from(MockServerHttpRequest.get(path)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)));
+    }
+
+    private Mono<Authentication> query(String path, String token) {
+        return manager.convert(MockServerWebExchange.from(MockServerHttpRequest.get(path)
+                .queryParam(JwtAuthenticationManager.ACCESS_TOKEN_PARAM, token)));
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.sid.app.auth;
+
+import com.sid.app.config.JwtProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks expiry and the size bound of the verified-token cache, against a manual clock.
+ */
+class JwtTokenCacheTests {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    @Test
+    void forgetsTokenAtItsExpiry() {
+        JwtTokenCache cache = cache(10);
+        cache.put("token", "user@test.local", 2_000);
+
+        assertEquals("user@test.local", cache.get("token"));
+        now.set(2_000);
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void keysByWholeToken() {
+        JwtTokenCache cache = cache(10);
+        cache.put("header.payload.signature", "user@test.local", 2_000);
+
+        assertNull(cache.get("header.payload.signaturf"));
+    }
+
+    @Test
+    void staysWithinBound() {
+        JwtTokenCache cache = cache(2);
+        cache.put("first", "a@test.local", 2_000);
+        cache.put("second", "b@test.local", 5_000);
+        cache.put("third", "c@test.local", 5_000);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("third"));
+
+        // A full cache makes room by dropping expired tokens only
+        now.set(2_000);
+        cache.put("third", "c@test.local", 5_000);
+        assertEquals(2, cache.size());
+        assertEquals("b@test.local", cache.get("second"));
+        assertEquals("c@test.local", cache.get("third"));
+    }
+
+    @Test
+    void cachesNothingWhenDisabled() {
+        JwtTokenCache cache = cache(0);
+        cache.put("token", "user@test.local", 2_000);
+
+        assertNull(cache.get("token"));
+    }
+
+    private JwtTokenCache cache(int maxEntries) {
+        JwtProperties properties = new JwtProperties();
+        properties.setCacheMaxEntries(maxEntries);
+        return new JwtTokenCache(properties, now::get);
+    }
+
+}
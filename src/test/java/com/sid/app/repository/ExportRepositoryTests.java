@@ -0,0 +1,77 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.FuelExpenseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the export limit and idle timeout against a mocked JDBC driver whose cursor never ends.
+ */
+class ExportRepositoryTests {
+
+    private Connection connection;
+    private ExportRepository repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        repository = new ExportRepository(dataSource, 100, 1, Duration.ofMillis(200));
+    }
+
+    @Test
+    void rejectsExportsBeyondTheLimitUntilOneEnds() {
+        Flux<FuelExpenseDTO> first = repository.streamFuelExpenses(null);
+        StepVerifier.create(first, 1)
+                .expectNextCount(1)
+                .then(() -> StepVerifier.create(repository.streamFuelExpenses(null))
+                        .expectError(RejectedExecutionException.class)
+                        .verify())
+                .thenCancel()
+                .verify();
+
+        StepVerifier.create(repository.streamFuelExpenses(null).take(1))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void releasesConnectionOfStalledClient() throws Exception {
+        StepVerifier.create(repository.streamFuelExpenses(null), 1)
+                .expectNextCount(1)
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+
+        verify(connection, atLeastOnce()).close();
+        StepVerifier.create(repository.streamFuelExpenses(null).take(1))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+}
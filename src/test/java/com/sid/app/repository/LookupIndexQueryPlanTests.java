@@ -0,0 +1,45 @@
+package com.sid.app.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the per-owner lookups issued by the repositories are planned as index scans.
+ * Sequential scans are disabled for the transaction, since on small test tables the planner
+ * would otherwise prefer them even when a usable index exists.
+ */
+@SpringBootTest
+@Transactional
+class LookupIndexQueryPlanTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "SELECT * FROM fuel_expense WHERE vehicle_id = 1 ORDER BY fuel_filled_date | idx_fuel_expense_vehicle_date",
+            "SELECT * FROM vehicle_service WHERE vehicle_id = 1 ORDER BY service_date | idx_vehicle_service_vehicle_date",
+            "SELECT * FROM vehicle WHERE user_id = 1 | idx_vehicle_user_id",
+            "SELECT * FROM bank_account WHERE user_id = 1 | idx_bank_account_user_id",
+            "SELECT * FROM bank_cards WHERE bank_account_id = 1 AND card_number_last_four = '1234' | unique_bank_account_card_last_four",
+            "SELECT * FROM credentials WHERE user_id = 1 AND account_name = 'a' AND username = 'u' AND email = 'e' | unique_user_account_username_email"
+    })
+    void lookupUsesIndex(String query, String expectedIndex) {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + query, String.class);
+        String planText = String.join("\n", plan);
+
+        assertTrue(planText.contains("Index") && planText.contains(expectedIndex),
+                () -> "Expected an index scan on " + expectedIndex + " but got:\n" + planText);
+    }
+
+}
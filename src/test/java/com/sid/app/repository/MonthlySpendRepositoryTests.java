@@ -0,0 +1,77 @@
+package com.sid.app.repository;
+
+import com.sid.app.model.MonthlySpendDTO;
+import com.sid.app.model.SpendDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Reads the monthly spend rollup per vehicle and per user, including the user query's NULL vehicle column.
+ */
+@SpringBootTest
+@Transactional
+class MonthlySpendRepositoryTests {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 5);
+
+    @Autowired
+    private MonthlySpendRepository monthlySpendRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long vehicleId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        userId = jdbcTemplate.queryForObject("INSERT INTO users (name, email, mobile_number, password, " +
+                        "password_encryption_key_version, role) VALUES ('Monthly Spend', ?, ?, 'x', 1, 'USER') RETURNING user_id",
+                Long.class, "monthly-spend-" + suffix + "@test.local", suffix.substring(suffix.length() - 10));
+        vehicleId = jdbcTemplate.queryForObject("INSERT INTO vehicle (user_id, vehicle_type, vehicle_company, vehicle_model, " +
+                        "chassis_number, engine_number, registration_number, registration_date, registration_validity_date, owner_name) " +
+                        "VALUES (?, 'CAR', 'Test', 'Test', ?, ?, ?, ?, ?, 'Monthly Spend') RETURNING vehicle_id",
+                Long.class, userId, "CH-" + suffix, "EN-" + suffix, "REG-" + suffix,
+                LocalDate.now(), LocalDate.now().plusYears(15));
+
+        monthlySpendRepository.applyDeltas(List.of(
+                SpendDelta.fuel(vehicleId, MONTH.atDay(3), new BigDecimal("1000.00"), new BigDecimal("10.00")),
+                SpendDelta.service(vehicleId, MONTH.atDay(20), 500.0)));
+    }
+
+    @Test
+    void findsSpendByVehicle() {
+        List<MonthlySpendDTO> spend = monthlySpendRepository.findByVehicle(vehicleId, MONTH, MONTH);
+
+        assertEquals(1, spend.size());
+        assertEquals(vehicleId, spend.get(0).getVehicleId());
+        assertEquals(0, new BigDecimal("1500.00").compareTo(spend.get(0).getTotalAmount()));
+    }
+
+    @Test
+    void findsSpendByUser() {
+        List<MonthlySpendDTO> spend = monthlySpendRepository.findByUser(userId, MONTH.minusMonths(1), MONTH.plusMonths(1));
+
+        assertEquals(1, spend.size());
+        MonthlySpendDTO month = spend.get(0);
+        assertEquals(MONTH, month.getMonth());
+        assertNull(month.getVehicleId());
+        assertEquals(1, month.getFuelCount());
+        assertEquals(1, month.getServiceCount());
+        assertEquals(0, new BigDecimal("1500.00").compareTo(month.getTotalAmount()));
+    }
+
+}
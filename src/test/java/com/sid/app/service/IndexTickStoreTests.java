@@ -0,0 +1,190 @@
+package com.sid.app.service;
+
+import com.sid.app.config.TickStoreProperties;
+import com.sid.app.model.stock.StockDataDTO;
+import com.sid.app.model.stock.StockResponseDTO;
+import com.sid.app.model.stock.TickDTO;
+import com.sid.app.utils.BlockingExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises the on-disk layout of the tick store, day rollover and reopening existing files after a restart.
+ * Writes run on the calling thread, so every {@code record} is on disk when it returns.
+ */
+class IndexTickStoreTests {
+
+    private static final String INDEX = "NIFTY 50";
+    private static final ZoneId NSE_ZONE = ZoneId.of("Asia/Kolkata");
+    private static final DateTimeFormatter NSE_TIMESTAMP = DateTimeFormatter.ofPattern("dd-MMM-yyyy HH:mm:ss", Locale.ENGLISH);
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 15);
+
+    @TempDir
+    Path directory;
+
+    private IndexTickStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = openStore();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void writesFixedWidthBigEndianRecords() throws IOException {
+        LocalDateTime time = DAY.atTime(10, 0);
+        store.record(INDEX, response(time, stock("INFY", 1500.5, 2.5, 1000), stock("TCS", 3500.0, -1.25, 2000)));
+
+        ByteBuffer records = ByteBuffer.wrap(raw(DAY.atStartOfDay(), DAY.atTime(23, 59)));
+        assertEquals(2 * IndexTickStore.RECORD_SIZE, records.remaining());
+        assertEquals(millis(time), records.getLong(0));
+        assertEquals("INFY", store.symbols().get(records.getInt(8)));
+        assertEquals(0, records.getInt(12));
+        assertEquals(1500.5, records.getDouble(16));
+        assertEquals(2.5, records.getDouble(24));
+        assertEquals(1000L, records.getLong(32));
+        assertEquals("TCS", store.symbols().get(records.getInt(IndexTickStore.RECORD_SIZE + 8)));
+        assertEquals(-1.25, records.getDouble(IndexTickStore.RECORD_SIZE + 24));
+
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(dayFile(DAY)));
+        assertEquals(0x5449434B, file.getInt(0));
+        assertEquals(1, file.getInt(4));
+        assertEquals(IndexTickStore.RECORD_SIZE, file.getInt(8));
+        assertEquals(2L, file.getLong(16));
+    }
+
+    @Test
+    void growsTheMappingWhenFull() {
+        // The store grows by 4 records, so the third snapshot of 2 symbols needs a remap
+        for (int minute = 0; minute < 3; minute++) {
+            store.record(INDEX, response(DAY.atTime(10, minute), stock("INFY", 1500 + minute, 0, 0), stock("TCS", 3500, 0, 0)));
+        }
+
+        List<TickDTO> ticks = store.scan(INDEX, "infy", millis(DAY.atStartOfDay()), millis(DAY.atTime(23, 59)))
+                .collectList().block();
+        assertEquals(List.of(1500.0, 1501.0, 1502.0), ticks.stream().map(TickDTO::getLastPrice).toList());
+    }
+
+    @Test
+    void rollsOverToOneFilePerDay() throws IOException {
+        LocalDate nextDay = DAY.plusDays(1);
+        store.record(INDEX, response(DAY.atTime(10, 0), stock("INFY", 1500, 0, 0)));
+        store.record(INDEX, response(nextDay.atTime(9, 15), stock("INFY", 1510, 0, 0)));
+        // Older than the open day, so dropped
+        store.record(INDEX, response(DAY.atTime(15, 0), stock("INFY", 1490, 0, 0)));
+
+        assertTrue(Files.exists(dayFile(DAY)));
+        assertTrue(Files.exists(dayFile(nextDay)));
+        assertEquals(1L, ByteBuffer.wrap(Files.readAllBytes(dayFile(DAY))).getLong(16));
+
+        List<TickDTO> ticks = store.scan(INDEX, "INFY", millis(DAY.atStartOfDay()), millis(nextDay.atTime(23, 59)))
+                .collectList().block();
+        assertEquals(List.of(millis(DAY.atTime(10, 0)), millis(nextDay.atTime(9, 15))),
+                ticks.stream().map(TickDTO::getTimestamp).toList());
+        assertEquals(List.of(1500.0, 1510.0), ticks.stream().map(TickDTO::getLastPrice).toList());
+    }
+
+    @Test
+    void appendsToExistingFilesAfterRestart() {
+        store.record(INDEX, response(DAY.atTime(10, 0), stock("INFY", 1500, 0, 0), stock("TCS", 3500, 0, 0)));
+        store.close();
+
+        store = openStore();
+        assertEquals(List.of("INFY", "TCS"), store.symbols());
+
+        // Same timestamp as the last stored snapshot, so not stored twice
+        store.record(INDEX, response(DAY.atTime(10, 0), stock("INFY", 1500, 0, 0)));
+        store.record(INDEX, response(DAY.atTime(10, 1), stock("TCS", 3501, 0, 0), stock("WIPRO", 450, 0, 0)));
+
+        assertEquals(List.of("INFY", "TCS", "WIPRO"), store.symbols());
+        long from = millis(DAY.atStartOfDay());
+        long to = millis(DAY.atTime(23, 59));
+        assertEquals(1, store.scan(INDEX, "INFY", from, to).count().block());
+        assertEquals(List.of(3500.0, 3501.0),
+                store.scan(INDEX, "TCS", from, to).map(TickDTO::getLastPrice).collectList().block());
+        assertEquals(4 * IndexTickStore.RECORD_SIZE, raw(DAY.atStartOfDay(), DAY.atTime(23, 59)).length);
+    }
+
+    @Test
+    void clampsLongRangesAndRejectsInvertedOnes() {
+        store.record(INDEX, response(DAY.atTime(10, 0), stock("INFY", 1500, 0, 0)));
+
+        assertEquals(1, store.scan(INDEX, "INFY", 0, millis(DAY.atTime(23, 59))).count().block());
+        // The stored day is more than max-range-days before the end, so it is skipped
+        assertEquals(0, store.scan(INDEX, "INFY", 0, millis(DAY.plusDays(40).atStartOfDay())).count().block());
+        assertArrayEquals(new byte[0], raw(DAY.minusYears(50).atStartOfDay(), DAY.plusDays(40).atStartOfDay()));
+
+        assertThrows(IllegalArgumentException.class, () -> store.scan(INDEX, "INFY", 2, 1));
+    }
+
+    private IndexTickStore openStore() {
+        TickStoreProperties properties = new TickStoreProperties();
+        properties.setDirectory(directory.toString());
+        properties.setGrowthRecords(4);
+        properties.setMaxRangeDays(31);
+        IndexTickStore tickStore = new IndexTickStore(properties, new BlockingExecutor(Schedulers.immediate()));
+        tickStore.init();
+        return tickStore;
+    }
+
+    private byte[] raw(LocalDateTime from, LocalDateTime to) {
+        DataBuffer joined = DataBufferUtils.join(
+                        store.scanRaw(INDEX, millis(from), millis(to), DefaultDataBufferFactory.sharedInstance))
+                .defaultIfEmpty(DefaultDataBufferFactory.sharedInstance.allocateBuffer(0))
+                .block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        return bytes;
+    }
+
+    private Path dayFile(LocalDate day) {
+        return directory.resolve("NIFTY_50").resolve(day + ".tick");
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(NSE_ZONE).toInstant().toEpochMilli();
+    }
+
+    private static StockResponseDTO response(LocalDateTime time, StockDataDTO... stocks) {
+        return StockResponseDTO.builder()
+                .timestamp(NSE_TIMESTAMP.format(time))
+                .data(List.of(stocks))
+                .build();
+    }
+
+    private static StockDataDTO stock(String symbol, double lastPrice, double change, double volume) {
+        return StockDataDTO.builder()
+                .symbol(symbol)
+                .lastPrice(lastPrice)
+                .change(change)
+                .totalTradedVolume(volume)
+                .build();
+    }
+
+}
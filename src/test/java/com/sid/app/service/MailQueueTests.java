@@ -0,0 +1,177 @@
+package com.sid.app.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.sid.app.config.MailQueueProperties;
+import com.sid.app.model.OutboundEmail;
+import com.sid.app.repository.OutboundEmailRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Runs the mail queue against a local GreenMail SMTP server.
+ */
+class MailQueueTests {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboundEmailRepository spillRepository = mock(OutboundEmailRepository.class);
+
+    private MailQueue mailQueue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (mailQueue != null) {
+            mailQueue.stop();
+        }
+    }
+
+    @Test
+    void deliversQueuedEmailsInBatches() throws Exception {
+        mailQueue = startQueue(properties(1000, 1), smtpSender());
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(mailQueue.enqueue(email("user" + i + "@test.local")));
+        }
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 5));
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(5, received.length);
+        assertEquals("OTP", received[0].getSubject());
+        awaitTrue(() -> deliveries("sent") == 5);
+    }
+
+    @Test
+    void retriesFailedDeliveries() throws InterruptedException {
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        JavaMailSenderImpl flakySender = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                if (failNext.getAndSet(false)) {
+                    throw new MailSendException("Simulated connection failure");
+                }
+                super.send(mimeMessages);
+            }
+        };
+        flakySender.setHost("localhost");
+        flakySender.setPort(greenMail.getSmtp().getPort());
+        mailQueue = startQueue(properties(1000, 1), flakySender);
+
+        assertTrue(mailQueue.enqueue(email("retry@test.local")));
+
+        assertTrue(greenMail.waitForIncomingEmail(10000, 1));
+        awaitTrue(() -> deliveries("sent") == 1);
+        assertEquals(1, deliveries("retried"));
+    }
+
+    @Test
+    void keepsSensitiveEmailsOutOfSpillover() {
+        MailQueueProperties properties = properties(1, 0);
+        properties.setSpillover(true);
+        mailQueue = startQueue(properties, smtpSender(), spillRepository);
+
+        assertTrue(mailQueue.enqueue(email("first@test.local")));
+        assertTrue(mailQueue.enqueue(email("second@test.local")));
+        assertFalse(mailQueue.enqueue(email("otp@test.local").asSensitive()));
+
+        verify(spillRepository).insert(email("second@test.local"));
+        verifyNoMoreInteractions(spillRepository);
+        assertEquals(1, deliveries("rejected"));
+    }
+
+    @Test
+    void spillsPendingRetriesOnStop() throws InterruptedException {
+        JavaMailSenderImpl downSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                throw new MailSendException("Simulated connection failure");
+            }
+        };
+        MailQueueProperties properties = properties(1000, 1);
+        properties.setSpillover(true);
+        properties.setInitialBackoff(Duration.ofMinutes(1));
+        mailQueue = startQueue(properties, downSender, spillRepository);
+
+        assertTrue(mailQueue.enqueue(email("retry@test.local")));
+        assertTrue(mailQueue.enqueue(email("otp@test.local").asSensitive()));
+        awaitTrue(() -> deliveries("retried") == 2);
+        mailQueue.stop();
+
+        verify(spillRepository).insertAll(List.of(email("retry@test.local").nextAttempt()));
+        assertEquals(1, deliveries("spilled"));
+        assertEquals(1, deliveries("rejected"));
+    }
+
+    @Test
+    void rejectsWhenFullWithoutSpillover() {
+        // No workers, so nothing drains the queue
+        mailQueue = startQueue(properties(1, 0), smtpSender());
+
+        assertTrue(mailQueue.enqueue(email("first@test.local")));
+        assertFalse(mailQueue.enqueue(email("second@test.local")));
+        assertEquals(1, deliveries("rejected"));
+    }
+
+    private MailQueue startQueue(MailQueueProperties properties, JavaMailSenderImpl sender) {
+        return startQueue(properties, sender, null);
+    }
+
+    private MailQueue startQueue(MailQueueProperties properties, JavaMailSenderImpl sender,
+                                 OutboundEmailRepository repository) {
+        MailQueue queue = new MailQueue(sender, properties, repository, meterRegistry);
+        queue.start();
+        return queue;
+    }
+
+    private static JavaMailSenderImpl smtpSender() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(greenMail.getSmtp().getPort());
+        return sender;
+    }
+
+    private static MailQueueProperties properties(int capacity, int workers) {
+        MailQueueProperties properties = new MailQueueProperties();
+        properties.setCapacity(capacity);
+        properties.setWorkers(workers);
+        properties.setBatchSize(10);
+        properties.setInitialBackoff(Duration.ofMillis(100));
+        return properties;
+    }
+
+    private static OutboundEmail email(String to) {
+        return OutboundEmail.of("noreply@test.local", to, "OTP", "<p>123456</p>");
+    }
+
+    private double deliveries(String result) {
+        return meterRegistry.counter("mail.delivery", "result", result).count();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met within 5s");
+            Thread.sleep(20);
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.sid.app.service;
+
+import com.sid.app.config.StockStreamProperties;
+import com.sid.app.exception.StockException;
+import com.sid.app.model.stock.IndexUpdateDTO;
+import com.sid.app.model.stock.MetaDTO;
+import com.sid.app.model.stock.QuotePreOpenStatusDTO;
+import com.sid.app.model.stock.StockDataDTO;
+import com.sid.app.model.stock.StockResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that viewers of an index share one poller, that the poller limit holds and that diffs only carry
+ * symbols whose market data changed.
+ */
+class StockStreamServiceTests {
+
+    private final AtomicInteger polls = new AtomicInteger();
+
+    private StockStreamProperties properties;
+    private StockStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        StockMarketService stockMarketService = mock(StockMarketService.class);
+        when(stockMarketService.invokeStockData(anyString())).thenAnswer(invocation -> Mono.fromCallable(() -> {
+            polls.incrementAndGet();
+            return StockResponseDTO.builder()
+                    .name(invocation.getArgument(0))
+                    .data(List.of(StockDataDTO.builder().symbol("INFY").lastPrice(1500.0).build()))
+                    .build();
+        }));
+
+        properties = new StockStreamProperties();
+        // Only the immediate first poll runs during a test
+        properties.setPollInterval(Duration.ofHours(1));
+        properties.setIdleGrace(Duration.ofMillis(100));
+        properties.setMaxIndices(1);
+        streamService = new StockStreamService(stockMarketService, properties);
+    }
+
+    @Test
+    void concurrentSubscribersShareOnePoller() throws Exception {
+        int subscribers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch snapshots = new CountDownLatch(subscribers);
+        List<Disposable> subscriptions = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(subscribers);
+        try {
+            for (int i = 0; i < subscribers; i++) {
+                executor.execute(() -> {
+                    awaitQuietly(start);
+                    subscriptions.add(streamService.stream("nifty 50").subscribe(update -> snapshots.countDown()));
+                });
+            }
+            start.countDown();
+
+            assertTrue(snapshots.await(5, TimeUnit.SECONDS), "Every subscriber should receive the snapshot");
+            assertEquals(1, polls.get());
+        } finally {
+            subscriptions.forEach(Disposable::dispose);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void lateSubscriberWithinGraceReusesPoller() {
+        StepVerifier.create(streamService.stream("NIFTY 50").take(1))
+                .expectNextMatches(IndexUpdateDTO::isSnapshot)
+                .verifyComplete();
+        StepVerifier.create(streamService.stream("NIFTY 50").take(1))
+                .expectNextMatches(IndexUpdateDTO::isSnapshot)
+                .verifyComplete();
+
+        assertEquals(1, polls.get());
+    }
+
+    @Test
+    void pollerStopsAfterGraceAndFreesItsSlot() throws InterruptedException {
+        StepVerifier.create(streamService.stream("NIFTY 50").take(1))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(streamService.stream("NIFTY BANK").take(1))
+                .expectError(StockException.class)
+                .verify();
+
+        Thread.sleep(properties.getIdleGrace().multipliedBy(5).toMillis());
+
+        StepVerifier.create(streamService.stream("NIFTY BANK").take(1))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertEquals(2, polls.get());
+    }
+
+    @Test
+    void diffCarriesOnlySymbolsWithChangedPrices() {
+        AtomicInteger fetches = new AtomicInteger();
+        StockMarketService stockMarketService = mock(StockMarketService.class);
+        when(stockMarketService.invokeStockData(anyString())).thenAnswer(invocation -> Mono.fromCallable(() -> {
+            // Every fetch carries a new update time and new meta objects, only the INFY price moves
+            String fetch = Integer.toString(fetches.incrementAndGet());
+            double infyPrice = fetch.equals("1") ? 1500.0 : 1510.0;
+            return StockResponseDTO.builder()
+                    .name(invocation.getArgument(0))
+                    .data(List.of(stock("INFY", infyPrice, fetch), stock("TCS", 3500.0, fetch)))
+                    .build();
+        }));
+        properties.setPollInterval(Duration.ofMillis(300));
+        StockStreamService service = new StockStreamService(stockMarketService, properties);
+
+        StepVerifier.create(service.stream("NIFTY 50").take(2))
+                .expectNextMatches(update -> update.isSnapshot() && update.getChanged().size() == 2)
+                .expectNextMatches(update -> !update.isSnapshot()
+                        && update.getChanged().size() == 1
+                        && update.getChanged().get(0).getSymbol().equals("INFY")
+                        && update.getChanged().get(0).getLastPrice() == 1510.0)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static StockDataDTO stock(String symbol, double lastPrice, String updateTime) {
+        MetaDTO meta = new MetaDTO();
+        meta.setQuotepreopenstatus(new QuotePreOpenStatusDTO());
+        return StockDataDTO.builder()
+                .symbol(symbol)
+                .lastPrice(lastPrice)
+                .lastUpdateTime(updateTime)
+                .meta(meta)
+                .build();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.sid.app.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Guards the fuel expense and servicing read paths against N+1 loading of {@code Vehicle}:
+ * each read must issue the same number of statements however many vehicles the rows belong to.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class VehicleHistoryQueryCountTests {
+
+    private static final int VEHICLES = 3;
+
+    @Autowired
+    private FuelExpenseService fuelExpenseService;
+
+    @Autowired
+    private VehicleServicingService vehicleServicingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private final List<Long> vehicleIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        Long userId = jdbcTemplate.queryForObject("INSERT INTO users (name, email, mobile_number, password, " +
+                        "password_encryption_key_version, role) VALUES ('Query Count', ?, ?, 'x', 1, 'USER') RETURNING user_id",
+                Long.class, "query-count-" + suffix + "@test.local", suffix.substring(suffix.length() - 10));
+
+        for (int i = 0; i < VEHICLES; i++) {
+            Long vehicleId = jdbcTemplate.queryForObject("INSERT INTO vehicle (user_id, vehicle_type, vehicle_company, vehicle_model, " +
+                            "chassis_number, engine_number, registration_number, registration_date, registration_validity_date, owner_name) " +
+                            "VALUES (?, 'CAR', 'Test', 'Test', ?, ?, ?, ?, ?, 'Query Count') RETURNING vehicle_id",
+                    Long.class, userId, "CH-" + suffix + i, "EN-" + suffix + i, "REG-" + suffix + i,
+                    LocalDate.now(), LocalDate.now().plusYears(15));
+            vehicleIds.add(vehicleId);
+
+            for (int j = 0; j < 2; j++) {
+                jdbcTemplate.update("INSERT INTO fuel_expense (vehicle_id, fuel_filled_date, quantity, rate, amount, " +
+                        "odometer_reading, location, payment_mode) VALUES (?, ?, 10, 100, 1000, 1000, 'Test', 'CASH')",
+                        vehicleId, LocalDate.now().minusDays(j));
+                jdbcTemplate.update("INSERT INTO vehicle_service (vehicle_id, service_date, odometer_reading, service_type, " +
+                        "service_center, service_manager, location, next_service_due, service_cost) " +
+                        "VALUES (?, ?, 1000, 'General', 'Test', 'Test', 'Test', ?, 500)",
+                        vehicleId, LocalDate.now().minusDays(j), LocalDate.now().plusMonths(6));
+            }
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void fuelExpensePageIsOneStatement() {
+        fuelExpenseService.getAllFuelExpenses(null, 100);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void fuelExpensesByVehicleAreOneStatement() {
+        assertEquals(2, fuelExpenseService.getFuelExpenses(vehicleIds.get(0), null).size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void fuelExpensesByRegistrationNumberAreOneStatement() {
+        String registrationNumber = registrationNumberOf(vehicleIds.get(1));
+
+        assertEquals(2, fuelExpenseService.getFuelExpenses(null, registrationNumber).size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void fuelExpensesByVehicleAndRegistrationNumberAreTwoStatements() {
+        String registrationNumber = registrationNumberOf(vehicleIds.get(2));
+
+        fuelExpenseService.getFuelExpenses(vehicleIds.get(2), registrationNumber);
+        // One for the vehicle/registration number check, one for the expenses
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void vehicleServicesByVehicleAreOneStatement() {
+        assertEquals(2, vehicleServicingService.getVehicleServices(vehicleIds.get(0), null).size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void vehicleServicesByRegistrationNumberAreOneStatement() {
+        String registrationNumber = registrationNumberOf(vehicleIds.get(1));
+
+        assertEquals(2, vehicleServicingService.getVehicleServices(null, registrationNumber).size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void vehicleServicesByVehicleAndRegistrationNumberAreTwoStatements() {
+        String registrationNumber = registrationNumberOf(vehicleIds.get(2));
+
+        vehicleServicingService.getVehicleServices(vehicleIds.get(2), registrationNumber);
+        // One for the vehicle/registration number check, one for the services
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private String registrationNumberOf(Long vehicleId) {
+        return jdbcTemplate.queryForObject("SELECT registration_number FROM vehicle WHERE vehicle_id = ?", String.class, vehicleId);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.sid.app.utils;
+
+import com.sid.app.config.AESProperties;
+import com.sid.app.entity.EncryptionKey;
+import com.sid.app.exception.InvalidEncryptionKeyException;
+import com.sid.app.service.EncryptionKeyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that lookups of unknown key versions do not reload the ring from the database every time.
+ */
+class EncryptionKeyRingTests {
+
+    private EncryptionKeyService keyService;
+    private EncryptionKeyRing keyRing;
+
+    @BeforeEach
+    void setUp() {
+        keyService = mock(EncryptionKeyService.class);
+        when(keyService.getAllKeys()).thenReturn(List.of(key(1), key(3)));
+        AESProperties aesProperties = new AESProperties();
+        aesProperties.setAlgorithm("AES");
+
+        keyRing = new EncryptionKeyRing();
+        ReflectionTestUtils.setField(keyRing, "keyService", keyService);
+        ReflectionTestUtils.setField(keyRing, "aesProperties", aesProperties);
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+    }
+
+    @Test
+    void missingOlderVersionFailsWithoutReload() {
+        assertNotNull(keyRing.getKey(1));
+        for (int i = 0; i < 100; i++) {
+            assertThrows(InvalidEncryptionKeyException.class, () -> keyRing.getKey(2));
+        }
+        verify(keyService, times(1)).getAllKeys();
+    }
+
+    @Test
+    void unknownNewerVersionReloadsAtMostOncePerInterval() {
+        for (int i = 0; i < 100; i++) {
+            assertThrows(InvalidEncryptionKeyException.class, () -> keyRing.getKey(4));
+        }
+        // The ring was loaded just now, so no lookup within the interval reloads it
+        verify(keyService, times(1)).getAllKeys();
+    }
+
+    private static EncryptionKey key(int version) {
+        EncryptionKey key = new EncryptionKey();
+        key.setKeyVersion(version);
+        key.setSecretKey("0123456789abcdef0123456789abcde" + version);
+        return key;
+    }
+
+}